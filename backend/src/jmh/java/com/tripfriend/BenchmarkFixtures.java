@@ -0,0 +1,66 @@
+package com.tripfriend;
+
+import com.tripfriend.domain.member.member.entity.AgeRange;
+import com.tripfriend.domain.member.member.entity.Gender;
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.member.member.entity.TravelStyle;
+import com.tripfriend.domain.place.place.entity.Category;
+import com.tripfriend.domain.place.place.entity.Place;
+import com.tripfriend.domain.recruit.recruit.entity.Recruit;
+
+import java.time.LocalDate;
+
+// 벤치마크에서 같이 쓰는 엔티티 (DB 없이 메모리에서만 만든다)
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Member member(long id) {
+        return Member.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password("{none}")
+                .nickname("user" + id)
+                .gender(id % 2 == 0 ? Gender.FEMALE : Gender.MALE)
+                .ageRange(AgeRange.TWENTIES)
+                .travelStyle(TravelStyle.TOURISM)
+                .aboutMe("hello")
+                .rating(0.0)
+                .authority("USER")
+                .verified(true)
+                .build();
+    }
+
+    public static Place place(long id) {
+        return Place.builder()
+                .id(id)
+                .cityName("서울")
+                .placeName("경복궁 " + id)
+                .description("조선 시대의 대표적인 궁궐로, 한국 전통 건축의 아름다움을 느낄 수 있는 곳입니다.")
+                .category(Category.PLACE)
+                .imageUrl("/images/경복궁.jpg")
+                .build();
+    }
+
+    public static Recruit recruit(long id, Member member, Place place) {
+        LocalDate startDate = LocalDate.of(2025, 5, 1).plusDays(id % 30);
+        return Recruit.builder()
+                .recruitId(id)
+                .member(member)
+                .place(place)
+                .title("같이 여행 가실 분 " + id)
+                .content("경복궁 야간 개장 같이 보러 가요.")
+                .isClosed(false)
+                .startDate(startDate)
+                .endDate(startDate.plusDays(3))
+                .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.SIGHTSEEING)
+                .sameGender(id % 3 == 0)
+                .sameAge(id % 2 == 0)
+                .budget(300_000)
+                .groupSize(4)
+                .remainingSlots(3)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.tripfriend.domain.recruit.recruit.dto;
+
+import com.tripfriend.BenchmarkFixtures;
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.place.place.entity.Place;
+import com.tripfriend.domain.recruit.recruit.entity.Recruit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 모집글 목록 한 페이지를 DTO 로 바꾸는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecruitListResponseDtoBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private List<Recruit> recruits;
+
+    @Setup
+    public void setUp() {
+        recruits = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            Member member = BenchmarkFixtures.member(i % 10 + 1);
+            Place place = BenchmarkFixtures.place(i % 5 + 1);
+            recruits.add(BenchmarkFixtures.recruit(i, member, place));
+        }
+    }
+
+    @Benchmark
+    public List<RecruitListResponseDto> toDtos() {
+        return recruits.stream()
+                .map(RecruitListResponseDto::new)
+                .toList();
+    }
+}
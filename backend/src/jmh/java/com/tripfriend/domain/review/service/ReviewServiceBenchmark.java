@@ -0,0 +1,168 @@
+package com.tripfriend.domain.review.service;
+
+import com.tripfriend.BenchmarkFixtures;
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.domain.place.place.entity.Place;
+import com.tripfriend.domain.place.place.repository.PlaceRepository;
+import com.tripfriend.domain.review.dto.ReviewResponseDto;
+import com.tripfriend.domain.review.entity.Comment;
+import com.tripfriend.domain.review.entity.Review;
+import com.tripfriend.domain.review.entity.ReviewViewCount;
+import com.tripfriend.domain.review.repository.CommentRepository;
+import com.tripfriend.domain.review.repository.ReviewRepository;
+import com.tripfriend.domain.review.repository.ReviewViewCountRepository;
+import com.tripfriend.global.config.QueryDslConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 목록 조립 비용 (메모리 H2)
+ * 리뷰 / 댓글 / 조회수를 미리 넣어 두고, 서비스 메서드 한 번이 만드는 쿼리와 DTO 변환까지 측정한다.
+ * Redis, 보안, 메일 없이 JPA 와 ReviewService 만 띄운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewServiceBenchmark {
+
+    private static final int MEMBER_COUNT = 20;
+    private static final int PLACE_COUNT = 20;
+    private static final int COMMENTS_PER_REVIEW = 3;
+
+    @Param({"100", "1000"})
+    private int reviewCount;
+
+    private ConfigurableApplicationContext context;
+    private ReviewService reviewService;
+    private Long placeId;
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan("com.tripfriend")
+    @EnableJpaRepositories(basePackageClasses = {
+            ReviewRepository.class, PlaceRepository.class, MemberRepository.class
+    })
+    @EnableJpaAuditing
+    @Import({QueryDslConfig.class, ReviewService.class})
+    static class BenchmarkConfig {
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.config.name=jmh", // application.yml(MySQL, 비밀 설정) 을 읽지 않는다
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:review-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.default_batch_fetch_size=100",
+                        "logging.level.root=warn"
+                )
+                .run();
+        reviewService = context.getBean(ReviewService.class);
+        placeId = context.getBean(TransactionTemplate.class).execute(status -> insertData());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private Long insertData() {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        PlaceRepository placeRepository = context.getBean(PlaceRepository.class);
+        ReviewRepository reviewRepository = context.getBean(ReviewRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        ReviewViewCountRepository viewCountRepository = context.getBean(ReviewViewCountRepository.class);
+
+        List<Member> members = new ArrayList<>();
+        for (long i = 1; i <= MEMBER_COUNT; i++) {
+            Member member = BenchmarkFixtures.member(i);
+            member.setId(null);
+            members.add(member);
+        }
+        members = memberRepository.saveAll(members);
+
+        List<Place> places = new ArrayList<>();
+        for (long i = 1; i <= PLACE_COUNT; i++) {
+            Place place = BenchmarkFixtures.place(i);
+            place.setId(null);
+            places.add(place);
+        }
+        places = placeRepository.saveAll(places);
+
+        for (int i = 0; i < reviewCount; i++) {
+            Member member = members.get(i % MEMBER_COUNT);
+            Review review = reviewRepository.save(new Review(
+                    "리뷰 " + i, "여행 후기 내용 " + i, 1 + (i % 5), member, places.get(i % PLACE_COUNT)));
+            for (int j = 0; j < COMMENTS_PER_REVIEW; j++) {
+                commentRepository.save(new Comment("댓글 " + j, review, members.get((i + j + 1) % MEMBER_COUNT)));
+            }
+            if (i % 2 == 0) {
+                viewCountRepository.save(new ReviewViewCount(review));
+            }
+        }
+        return places.get(0).getId();
+    }
+
+    @Benchmark
+    public List<ReviewResponseDto> newest() {
+        return reviewService.getReviews("newest", null, null, null);
+    }
+
+    @Benchmark
+    public List<ReviewResponseDto> byPlace() {
+        return reviewService.getReviews("highest_rating", null, placeId, null);
+    }
+
+    @Benchmark
+    public List<ReviewResponseDto> commentCountOrder() {
+        return reviewService.getReviews("comments", null, null, null);
+    }
+
+    // 캐시 없이 점수 계산까지 (@EnableCaching 을 켜지 않았다)
+    @Benchmark
+    public List<ReviewResponseDto> popular() {
+        return reviewService.getPopularReviews(10);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tripfriend.global.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripfriend.BenchmarkFixtures;
+import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 본문(RsData) JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsDataSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private RsData<Void> message;
+    private RsData<List<RecruitListResponseDto>> recruitList;
+
+    @Setup
+    public void setUp() {
+        // 스프링 MVC 와 같은 설정 (JavaTimeModule, 날짜는 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        message = new RsData<>("200-1", "로그아웃 되었습니다.");
+
+        List<RecruitListResponseDto> recruits = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            recruits.add(new RecruitListResponseDto(BenchmarkFixtures.recruit(
+                    i, BenchmarkFixtures.member(i % 10 + 1), BenchmarkFixtures.place(i % 5 + 1))));
+        }
+        recruitList = new RsData<>("200-3", "모집글 목록 조회 성공", recruits);
+    }
+
+    @Benchmark
+    public byte[] message() throws Exception {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] recruitList() throws Exception {
+        return objectMapper.writeValueAsBytes(recruitList);
+    }
+}
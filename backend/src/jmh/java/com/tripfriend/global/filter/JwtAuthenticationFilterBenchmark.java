@@ -0,0 +1,87 @@
+package com.tripfriend.global.filter;
+
+import com.tripfriend.BenchmarkFixtures;
+import com.tripfriend.domain.blacklist.service.BlacklistIndexService;
+import com.tripfriend.global.security.CustomUserDetailsService;
+import com.tripfriend.global.security.PrincipalDetails;
+import com.tripfriend.global.util.JwtUtil;
+import com.tripfriend.global.util.JwtUtilBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 인증된 요청 한 건이 JWT 필터를 지나는 비용 (Redis, 회원 조회는 목으로 대체)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class, withSettings().stubOnly());
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class, withSettings().stubOnly());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+
+        JwtUtil jwtUtil = JwtUtilBenchmark.create(redisTemplate);
+        token = jwtUtil.generateAccessToken("user1", "USER", true);
+        when(valueOperations.get(eq("access:user1"))).thenReturn(token);
+
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class, withSettings().stubOnly());
+        when(userDetailsService.loadUserByUsername("user1"))
+                .thenReturn(new PrincipalDetails(BenchmarkFixtures.member(1L), Map.of()));
+
+        BlacklistIndexService blacklistIndexService = mock(BlacklistIndexService.class, withSettings().stubOnly());
+        when(blacklistIndexService.contains(anyLong())).thenReturn(false);
+
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, redisTemplate, blacklistIndexService);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member/mypage");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse anonymousRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/notice/list");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,68 @@
+package com.tripfriend.global.util;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 토큰 발급 / 파싱 비용 (Redis 저장은 목으로 대체)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    // HS512 는 64바이트 이상의 키가 필요하다
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class, withSettings().stubOnly());
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class, withSettings().stubOnly());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        jwtUtil = create(redisTemplate);
+        token = jwtUtil.generateAccessToken("user1", "USER", true);
+    }
+
+    public static JwtUtil create(RedisTemplate<String, String> redisTemplate) {
+        JwtUtil jwtUtil = new JwtUtil(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        return jwtUtil;
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("user1", "USER", true);
+    }
+
+    @Benchmark
+    public Claims getClaims() {
+        return jwtUtil.getClaims(token);
+    }
+}
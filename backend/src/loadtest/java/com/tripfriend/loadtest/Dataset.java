@@ -0,0 +1,72 @@
+package com.tripfriend.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 생성한 데이터의 id 범위
+ * SyntheticDataGenerator 가 파일로 남기고, LoadDriver 가 읽어서 존재하는 id 로만 요청을 보낸다.
+ */
+record Dataset(String usernamePrefix, int memberCount,
+               Range places, Range recruits, Range reviews, Range schedules) {
+
+    static final Path DEFAULT_PATH = Path.of("build", "loadtest", "dataset.properties");
+
+    record Range(long first, long last) {
+
+        static final Range EMPTY = new Range(1, 0);
+
+        boolean isEmpty() {
+            return last < first;
+        }
+
+        long random() {
+            return ThreadLocalRandom.current().nextLong(first, last + 1);
+        }
+    }
+
+    void save(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("username-prefix", usernamePrefix);
+        properties.setProperty("member-count", String.valueOf(memberCount));
+        put(properties, "place", places);
+        put(properties, "recruit", recruits);
+        put(properties, "review", reviews);
+        put(properties, "schedule", schedules);
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "generated by SyntheticDataGenerator");
+        }
+    }
+
+    static Dataset load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return new Dataset(
+                properties.getProperty("username-prefix"),
+                Integer.parseInt(properties.getProperty("member-count")),
+                get(properties, "place"),
+                get(properties, "recruit"),
+                get(properties, "review"),
+                get(properties, "schedule"));
+    }
+
+    private static void put(Properties properties, String name, Range range) {
+        properties.setProperty(name + ".first", String.valueOf(range.first()));
+        properties.setProperty(name + ".last", String.valueOf(range.last()));
+    }
+
+    private static Range get(Properties properties, String name) {
+        return new Range(
+                Long.parseLong(properties.getProperty(name + ".first")),
+                Long.parseLong(properties.getProperty(name + ".last")));
+    }
+}
@@ -0,0 +1,279 @@
+package com.tripfriend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * HTTP 부하 발생기
+ * 가상 사용자(users) 마다 스레드 하나가 로그인 후 실제 화면에 가까운 비율로 요청을 보내고(응답을 받으면 바로 다음 요청),
+ * 끝나면 엔드포인트별 처리량 / p50 / p99 / 최대 지연을 출력하고 JSON 으로 남긴다.
+ * 대상 서버와 DB 는 미리 띄워 두고, SyntheticDataGenerator 로 만든 id 범위(dataset) 를 읽어 존재하는 id 로만 요청한다.
+ *
+ * 인자 (--key=value)
+ * base-url (http://localhost:8080), users (20), duration (60초), warmup (10초), think-ms (0)
+ * dataset (build/loadtest/dataset.properties), result (build/reports/loadtest/results.json)
+ */
+public class LoadDriver {
+
+    private static final String RAW_PASSWORD = "12341234";
+    private static final int MAX_LOGIN_ATTEMPTS = 5;
+
+    // 엔드포인트 이름(보고용), 가중치, 로그인 필요 여부, 경로
+    record Endpoint(String name, int weight, boolean authenticated, Function<Dataset, String> path) {
+    }
+
+    private static final List<Endpoint> MIX = List.of(
+            new Endpoint("GET /recruits/recent3", 10, false, d -> "/recruits/recent3"),
+            new Endpoint("GET /recruits/{id}", 15, false, d -> "/recruits/" + d.recruits().random()),
+            new Endpoint("GET /recruits/search", 5, false, d -> "/recruits/search?keyword=%EB%A7%9B%EC%A7%91"), // 맛집
+            new Endpoint("GET /place/{id}", 10, false, d -> "/place/" + d.places().random()),
+            new Endpoint("GET /api/reviews/popular", 10, false, d -> "/api/reviews/popular?limit=10"),
+            new Endpoint("GET /api/reviews/{id}", 10, false, d -> "/api/reviews/" + d.reviews().random()),
+            new Endpoint("GET /api/reviews/place/{id}", 5, false, d -> "/api/reviews/place/" + d.places().random()),
+            new Endpoint("GET /api/comments/review/{id}", 10, false, d -> "/api/comments/review/" + d.reviews().random()),
+            new Endpoint("GET /notice/list", 5, false, d -> "/notice/list?page=0&size=10"),
+            new Endpoint("GET /admin/event/upcoming", 5, false, d -> "/admin/event/upcoming"),
+            new Endpoint("GET /qna", 5, false, d -> "/qna?page=0&size=20"),
+            new Endpoint("GET /member/mypage", 5, true, d -> "/member/mypage"),
+            new Endpoint("GET /trip/schedule/my-schedules", 5, true, d -> "/trip/schedule/my-schedules")
+    );
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Dataset dataset;
+
+    LoadDriver(String baseUrl, Dataset dataset, int users) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, users / 4)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArgs options = new LoadTestArgs(args);
+        Path datasetPath = Path.of(options.get("dataset", Dataset.DEFAULT_PATH.toString()));
+        if (!Files.exists(datasetPath)) {
+            throw new IllegalStateException("dataset 파일이 없습니다. 먼저 loadtestData 를 실행하세요: " + datasetPath.toAbsolutePath());
+        }
+
+        int users = options.getInt("users", 20);
+        LoadDriver driver = new LoadDriver(options.get("base-url", "http://localhost:8080"), Dataset.load(datasetPath), users);
+        Map<String, Stats> result = driver.run(users,
+                Duration.ofSeconds(options.getLong("warmup", 10)),
+                Duration.ofSeconds(options.getLong("duration", 60)),
+                options.getLong("think-ms", 0));
+
+        long durationSeconds = options.getLong("duration", 60);
+        driver.print(result, durationSeconds);
+        Path resultPath = Path.of(options.get("result", "build/reports/loadtest/results.json"));
+        driver.write(result, durationSeconds, users, resultPath);
+        System.out.println("결과 저장: " + resultPath.toAbsolutePath());
+        System.exit(0); // HttpClient 스레드 정리
+    }
+
+    Map<String, Stats> run(int users, Duration warmup, Duration duration, long thinkMillis) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(users);
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        List<Future<Map<String, Stats>>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            // 같은 회원으로 동시에 로그인하면 앞의 토큰이 무효가 되므로 사용자마다 다른 회원을 쓴다
+            String username = i < dataset.memberCount() ? dataset.usernamePrefix() + (i + 1) : null;
+            futures.add(workers.submit(() -> runUser(username, measureFrom, deadline, thinkMillis)));
+        }
+
+        Map<String, Stats> merged = new TreeMap<>();
+        for (Future<Map<String, Stats>> future : futures) {
+            future.get().forEach((name, stats) -> merged.computeIfAbsent(name, key -> new Stats()).merge(stats));
+        }
+        workers.shutdown();
+        return merged;
+    }
+
+    private Map<String, Stats> runUser(String username, long measureFrom, long deadline, long thinkMillis) throws Exception {
+        String token = username == null ? null : login(username);
+        List<Endpoint> mix = MIX.stream()
+                .filter(endpoint -> token != null || !endpoint.authenticated())
+                .toList();
+        int totalWeight = mix.stream().mapToInt(Endpoint::weight).sum();
+
+        Map<String, Stats> stats = new TreeMap<>();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(mix, totalWeight);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().apply(dataset)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET();
+            if (endpoint.authenticated()) {
+                request.header("Authorization", "Bearer " + token);
+            }
+
+            long startedAt = System.nanoTime();
+            int status;
+            try {
+                status = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1; // 연결 실패 / 타임아웃
+            }
+            long finishedAt = System.nanoTime();
+
+            // 워밍업 동안의 요청은 기록하지 않는다
+            if (startedAt >= measureFrom) {
+                stats.computeIfAbsent(endpoint.name(), key -> new Stats()).record(finishedAt - startedAt, status);
+            }
+            if (thinkMillis > 0) {
+                Thread.sleep(thinkMillis);
+            }
+        }
+        return stats;
+    }
+
+    // 로그인 요청은 IP 당 횟수 제한이 있어 429 면 Retry-After 만큼 기다렸다가 다시 시도한다
+    private String login(String username) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", RAW_PASSWORD));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/member/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        for (int attempt = 1; attempt <= MAX_LOGIN_ATTEMPTS; attempt++) {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 429) {
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(5);
+                Thread.sleep(retryAfter * 1000);
+                continue;
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(username + " 로그인 실패: " + response.statusCode() + " " + response.body());
+            }
+            JsonNode json = objectMapper.readTree(response.body());
+            return json.path("data").path("accessToken").asText();
+        }
+        throw new IllegalStateException(username + " 로그인 실패: 요청 제한");
+    }
+
+    private Endpoint pick(List<Endpoint> mix, int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : mix) {
+            value -= endpoint.weight();
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private void print(Map<String, Stats> result, long durationSeconds) {
+        System.out.printf("%-34s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        Stats total = new Stats();
+        result.forEach((name, stats) -> {
+            printRow(name, stats, durationSeconds);
+            total.merge(stats);
+        });
+        printRow("TOTAL", total, durationSeconds);
+    }
+
+    private void printRow(String name, Stats stats, long durationSeconds) {
+        System.out.printf("%-34s %9d %7d %9.1f %9.1f %9.1f %9.1f%n", name, stats.count(), stats.errors(),
+                stats.count() / (double) durationSeconds,
+                stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(100));
+    }
+
+    private void write(Map<String, Stats> result, long durationSeconds, int users, Path path) throws Exception {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        result.forEach((name, stats) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", stats.count());
+            row.put("errors", stats.errors());
+            row.put("statusCounts", stats.statusCounts());
+            row.put("throughputPerSecond", stats.count() / (double) durationSeconds);
+            row.put("p50Millis", stats.percentileMillis(50));
+            row.put("p99Millis", stats.percentileMillis(99));
+            row.put("maxMillis", stats.percentileMillis(100));
+            endpoints.put(name, row);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("users", users);
+        report.put("durationSeconds", durationSeconds);
+        report.put("endpoints", endpoints);
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    }
+
+    // 엔드포인트별 지연 시간(ns) 과 상태 코드 (가상 사용자마다 따로 모으고 끝나면 합친다)
+    static class Stats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+        void record(long latencyNanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            statusCounts.merge(status, 1, Integer::sum);
+        }
+
+        void merge(Stats other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            other.statusCounts.forEach((status, n) -> statusCounts.merge(status, n, Integer::sum));
+        }
+
+        int count() {
+            return count;
+        }
+
+        // 2xx, 3xx(304 포함) 가 아니면 오류
+        int errors() {
+            return statusCounts.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 400)
+                    .mapToInt(Map.Entry::getValue)
+                    .sum();
+        }
+
+        Map<Integer, Integer> statusCounts() {
+            return statusCounts;
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+        }
+    }
+}
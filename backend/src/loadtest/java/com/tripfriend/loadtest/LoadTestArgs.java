@@ -0,0 +1,48 @@
+package com.tripfriend.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// --key=value 형식의 실행 인자
+class LoadTestArgs {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    LoadTestArgs(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    // 인자가 없으면 환경변수 (application.yml 과 같은 DB_URL 등) 를 본다
+    String getOrEnv(String key, String env, String defaultValue) {
+        String value = values.get(key);
+        if (value != null) {
+            return value;
+        }
+        String envValue = System.getenv(env);
+        return envValue != null ? envValue : defaultValue;
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+}
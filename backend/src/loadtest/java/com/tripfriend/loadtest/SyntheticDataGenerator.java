@@ -0,0 +1,305 @@
+package com.tripfriend.loadtest;
+
+import com.tripfriend.domain.member.member.entity.AgeRange;
+import com.tripfriend.domain.member.member.entity.Gender;
+import com.tripfriend.domain.place.place.entity.Category;
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기
+ * 엔티티 / save() 를 거치지 않고 JDBC 배치 INSERT 로 바로 넣는다. 스키마는 서버를 한 번 띄워 만들어 둔 상태여야 한다.
+ * 기존 데이터 뒤에 이어서 넣으므로 여러 번 실행해도 된다. 회원 비밀번호는 모두 12341234 (BaseInitData 와 같음).
+ *
+ * 인자 (--key=value)
+ * url / username / password : 없으면 DB_URL / DB_USERNAME / DB_PASSWORD 환경변수
+ * members, places, recruits, reviews, comments-per-review, schedules, informations-per-schedule : 생성 개수
+ * batch-size (1000), seed (42), username-prefix (loadtest), dataset (build/loadtest/dataset.properties)
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] CITIES = {"서울", "부산", "제주", "강릉", "경주", "전주", "여수", "속초"};
+    private static final String[] WORDS = {"야경", "맛집", "카페", "바다", "산책", "시장", "전시", "축제", "숙소", "드라이브"};
+    private static final String RAW_PASSWORD = "12341234";
+
+    private final Connection connection;
+    private final int batchSize;
+    private final Random random;
+    private final boolean h2;
+
+    SyntheticDataGenerator(Connection connection, int batchSize, long seed, boolean h2) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.random = new Random(seed);
+        this.h2 = h2;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArgs options = new LoadTestArgs(args);
+        String url = options.getOrEnv("url", "DB_URL", null);
+        if (url == null) {
+            throw new IllegalArgumentException("--url 또는 DB_URL 환경변수가 필요합니다.");
+        }
+        // MySQL 은 이 옵션이 있어야 배치가 여러 행 INSERT 한 번으로 묶인다
+        if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+
+        try (Connection connection = DriverManager.getConnection(url,
+                options.getOrEnv("username", "DB_USERNAME", "sa"),
+                options.getOrEnv("password", "DB_PASSWORD", ""))) {
+            connection.setAutoCommit(false);
+
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(connection,
+                    options.getInt("batch-size", 1000), options.getLong("seed", 42), url.startsWith("jdbc:h2:"));
+            Dataset dataset = generator.generate(
+                    options.get("username-prefix", "loadtest"),
+                    options.getInt("members", 1_000),
+                    options.getInt("places", 200),
+                    options.getInt("recruits", 5_000),
+                    options.getInt("reviews", 5_000),
+                    options.getInt("comments-per-review", 3),
+                    options.getInt("schedules", 2_000),
+                    options.getInt("informations-per-schedule", 3));
+
+            Path datasetPath = Path.of(options.get("dataset", Dataset.DEFAULT_PATH.toString()));
+            dataset.save(datasetPath);
+            System.out.println("id 범위 저장: " + datasetPath.toAbsolutePath());
+        }
+    }
+
+    Dataset generate(String usernamePrefix, int members, int places, int recruits, int reviews,
+                     int commentsPerReview, int schedules, int informationsPerSchedule) throws SQLException {
+        if (members <= 0 || places <= 0) {
+            throw new IllegalArgumentException("members, places 는 1 이상이어야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // 회원 - 아이디는 prefix + 일련번호 (기존 부하 테스트 회원 뒤에 이어서)
+        int existingMembers = (int) queryLong("SELECT COUNT(*) FROM member WHERE username LIKE '" + usernamePrefix + "%'");
+        String password = "{bcrypt}" + new BCryptPasswordEncoder().encode(RAW_PASSWORD); // 한 번만 계산해서 모두 같은 해시 사용
+        Dataset.Range memberIds = insert("member", "member_id",
+                "INSERT INTO member (member_id, username, email, password, nickname, gender, age_range, travel_style," +
+                        " about_me, rating, created_at, updated_at, authority, verified, deleted)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                members, (ps, id, i) -> {
+                    String username = usernamePrefix + (existingMembers + i + 1);
+                    ps.setLong(1, id);
+                    ps.setString(2, username);
+                    ps.setString(3, username + "@example.com");
+                    ps.setString(4, password);
+                    ps.setString(5, username);
+                    ps.setString(6, pick(Gender.MALE, Gender.FEMALE).name());
+                    ps.setString(7, pick(AgeRange.TEENS, AgeRange.TWENTIES, AgeRange.THIRTIES, AgeRange.FORTIES_PLUS).name());
+                    ps.setString(8, pick(com.tripfriend.domain.member.member.entity.TravelStyle.values()).name());
+                    ps.setString(9, "안녕하세요 " + username + " 입니다.");
+                    ps.setDouble(10, random.nextInt(51) / 10.0);
+                    ps.setTimestamp(11, Timestamp.valueOf(now));
+                    ps.setTimestamp(12, Timestamp.valueOf(now));
+                    ps.setString(13, "USER");
+                    ps.setBoolean(14, true);
+                    ps.setBoolean(15, false);
+                });
+        int memberCount = existingMembers + members;
+
+        Dataset.Range placeIds = insert("place", "place_id",
+                "INSERT INTO place (place_id, city_name, place_name, description, category, image_url, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                places, (ps, id, i) -> {
+                    String city = pick(CITIES);
+                    ps.setLong(1, id);
+                    ps.setString(2, city);
+                    ps.setString(3, city + " " + pick(WORDS) + " " + id);
+                    ps.setString(4, city + "의 " + pick(WORDS) + " 명소입니다.");
+                    ps.setString(5, pick(Category.values()).name());
+                    ps.setString(6, "/images/place-" + id + ".jpg");
+                    ps.setTimestamp(7, Timestamp.valueOf(now));
+                    ps.setTimestamp(8, Timestamp.valueOf(now));
+                });
+
+        Dataset.Range recruitIds = insert("recruit", "recruit_id",
+                "INSERT INTO recruit (recruit_id, member_id, place_id, title, content, is_closed, start_date, end_date," +
+                        " travel_style, same_gender, same_age, budget, group_size, remaining_slots, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                recruits, (ps, id, i) -> {
+                    LocalDate startDate = LocalDate.now().plusDays(random.nextInt(180) - 30);
+                    int groupSize = 2 + random.nextInt(5);
+                    LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 90));
+                    ps.setLong(1, id);
+                    ps.setLong(2, randomId(memberIds));
+                    ps.setLong(3, randomId(placeIds));
+                    ps.setString(4, pick(WORDS) + " 같이 가실 분 " + id);
+                    ps.setString(5, pick(CITIES) + "에서 " + pick(WORDS) + " 함께 하실 분 구합니다.");
+                    ps.setBoolean(6, startDate.isBefore(LocalDate.now()));
+                    ps.setObject(7, startDate);
+                    ps.setObject(8, startDate.plusDays(1 + random.nextInt(6)));
+                    ps.setString(9, pick(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.values()).name());
+                    ps.setBoolean(10, random.nextInt(4) == 0);
+                    ps.setBoolean(11, random.nextInt(4) == 0);
+                    ps.setInt(12, 10_000 * random.nextInt(100));
+                    ps.setInt(13, groupSize);
+                    ps.setInt(14, random.nextInt(groupSize + 1));
+                    ps.setTimestamp(15, Timestamp.valueOf(createdAt));
+                    ps.setTimestamp(16, Timestamp.valueOf(createdAt));
+                });
+
+        Dataset.Range reviewIds = insert("review", "review_id",
+                "INSERT INTO review (review_id, title, content, rating, place_id, member_id, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                reviews, (ps, id, i) -> {
+                    LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 365));
+                    ps.setLong(1, id);
+                    ps.setString(2, pick(CITIES) + " " + pick(WORDS) + " 후기 " + id);
+                    ps.setString(3, pick(WORDS) + "도 좋았고 " + pick(WORDS) + "도 좋았어요. 다음에 또 가고 싶습니다.");
+                    ps.setDouble(4, 1 + random.nextInt(41) / 10.0);
+                    ps.setLong(5, randomId(placeIds));
+                    ps.setLong(6, randomId(memberIds));
+                    ps.setTimestamp(7, Timestamp.valueOf(createdAt));
+                    ps.setTimestamp(8, Timestamp.valueOf(createdAt));
+                });
+
+        insert("comment", "comment_id",
+                "INSERT INTO comment (comment_id, content, review_id, member_id, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?)",
+                reviews * commentsPerReview, (ps, id, i) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, pick(WORDS) + " 정보 감사합니다!");
+                    ps.setLong(3, reviewIds.first() + i / commentsPerReview); // 리뷰마다 같은 개수
+                    ps.setLong(4, randomId(memberIds));
+                    ps.setTimestamp(5, Timestamp.valueOf(now));
+                    ps.setTimestamp(6, Timestamp.valueOf(now));
+                });
+
+        Dataset.Range scheduleIds = insert("trip_schedule", "trip_schedule_id",
+                "INSERT INTO trip_schedule (trip_schedule_id, member_id, title, description, start_date, end_date, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                schedules, (ps, id, i) -> {
+                    LocalDate startDate = LocalDate.now().plusDays(random.nextInt(120));
+                    ps.setLong(1, id);
+                    ps.setLong(2, randomId(memberIds));
+                    ps.setString(3, pick(CITIES) + " 여행 " + id);
+                    ps.setString(4, pick(WORDS) + " 위주 일정");
+                    ps.setObject(5, startDate);
+                    ps.setObject(6, startDate.plusDays(1 + random.nextInt(4)));
+                    ps.setTimestamp(7, Timestamp.valueOf(now));
+                    ps.setTimestamp(8, Timestamp.valueOf(now));
+                });
+
+        insert("trip_information", "trip_information_id",
+                "INSERT INTO trip_information (trip_information_id, trip_schedule_id, place_id, visit_time, duration," +
+                        " transportation, cost, notes, is_visited) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                schedules * informationsPerSchedule, (ps, id, i) -> {
+                    ps.setLong(1, id);
+                    ps.setLong(2, scheduleIds.first() + i / informationsPerSchedule);
+                    ps.setLong(3, randomId(placeIds));
+                    ps.setTimestamp(4, Timestamp.valueOf(now.plusDays(random.nextInt(120)).withHour(9 + random.nextInt(10))));
+                    ps.setInt(5, 1 + random.nextInt(3));
+                    ps.setInt(6, pick(Transportation.values()).ordinal()); // @Enumerated 가 없어 순서 값으로 저장된다
+                    ps.setInt(7, 1_000 * random.nextInt(100));
+                    ps.setString(8, pick(WORDS) + " 들르기");
+                    ps.setBoolean(9, false);
+                });
+        insertTripBudgets(scheduleIds);
+
+        return new Dataset(usernamePrefix, memberCount, placeIds, recruitIds, reviewIds, scheduleIds);
+    }
+
+    // 서버가 세부 일정을 추가할 때처럼 일정의 날짜 / 교통수단별 예산 집계를 채운다 (세부 일정은 순서 값, 집계는 이름으로 저장)
+    private void insertTripBudgets(Dataset.Range scheduleIds) throws SQLException {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+
+        StringBuilder transportationName = new StringBuilder("CASE transportation");
+        for (Transportation transportation : Transportation.values()) {
+            transportationName.append(" WHEN ").append(transportation.ordinal()).append(" THEN '").append(transportation.name()).append("'");
+        }
+        transportationName.append(" END");
+
+        long startedAt = System.nanoTime();
+        int count;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO trip_budget (trip_schedule_id, budget_date, transportation, total_cost, total_duration, stop_count)" +
+                        " SELECT trip_schedule_id, CAST(visit_time AS DATE), " + transportationName + ", SUM(cost), SUM(duration), COUNT(*)" +
+                        " FROM trip_information WHERE trip_schedule_id BETWEEN ? AND ?" +
+                        " GROUP BY trip_schedule_id, CAST(visit_time AS DATE), transportation")) {
+            ps.setLong(1, scheduleIds.first());
+            ps.setLong(2, scheduleIds.last());
+            count = ps.executeUpdate();
+        }
+        connection.commit();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        System.out.printf("%-16s %,10d rows  %,8d ms%n", "trip_budget", count, elapsedMillis);
+    }
+
+    @FunctionalInterface
+    interface RowBinder {
+        void bind(PreparedStatement ps, long id, int index) throws SQLException;
+    }
+
+    // id 를 직접 지정해 기존 데이터 뒤에 이어 넣고, batchSize 마다 실행 / 커밋한다
+    private Dataset.Range insert(String table, String idColumn, String sql, int count, RowBinder binder) throws SQLException {
+        if (count <= 0) {
+            return Dataset.Range.EMPTY;
+        }
+
+        long firstId = queryLong("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table) + 1;
+        long startedAt = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                binder.bind(ps, firstId + i, i);
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+
+        long lastId = firstId + count - 1;
+        if (h2) {
+            // H2 는 id 를 직접 넣어도 IDENTITY 값이 올라가지 않아 서버의 다음 INSERT 와 겹친다
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + idColumn + " RESTART WITH " + (lastId + 1));
+            }
+            connection.commit();
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        System.out.printf("%-16s %,10d rows  %,8d ms  %,10d rows/s  (id %d ~ %d)%n",
+                table, count, elapsedMillis, count * 1000L / elapsedMillis, firstId, lastId);
+        return new Dataset.Range(firstId, lastId);
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long randomId(Dataset.Range range) {
+        return range.first() + random.nextInt((int) (range.last() - range.first() + 1));
+    }
+
+    @SafeVarargs
+    private <T> T pick(T... values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -2,6 +2,7 @@ package com.tripfriend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -11,7 +12,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class TravelPlanApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(TravelPlanApplication.class, args);
+		SpringApplication application = new SpringApplication(TravelPlanApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(10_000)); // 시작 단계별 소요 시간 기록 (StartupReportWriter)
+		application.run(args);
 	}
 
 }
@@ -3,10 +3,23 @@ package com.tripfriend.domain.blacklist.repository;
 import com.tripfriend.domain.blacklist.entity.Blacklist;
 import com.tripfriend.domain.member.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface BlacklistRepository extends JpaRepository<Blacklist, Long> {
     Optional<Blacklist> findByMember(Member member);
     boolean existsByMember(Member member);
+
+    // 블랙리스트 회원 id 전체 (BlacklistIndexService 적재용)
+    @Query("SELECT b.member.id FROM Blacklist b")
+    List<Long> findAllMemberIds();
+
+    // 회원 영구 삭제 시 블랙리스트 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Blacklist b WHERE b.member.id IN :memberIds")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
@@ -0,0 +1,144 @@
+package com.tripfriend.domain.blacklist.service;
+
+import com.tripfriend.domain.blacklist.repository.BlacklistRepository;
+import com.tripfriend.global.util.LongHashSet;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 블랙리스트 회원 id 집합
+ * 서버 메모리에 두고 인증 필터에서 요청마다 I/O 없이 확인한다.
+ * 추가 / 삭제는 커밋 후에 반영하고 Redis 채널로 다른 서버에도 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlacklistIndexService implements MessageListener {
+
+    static final String CHANNEL = "blacklist:members";
+    private static final String SEPARATOR = "\n";
+    private static final String ADD = "ADD";
+    private static final String REMOVE = "REMOVE";
+
+    private final BlacklistRepository blacklistRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString(); // 자기 자신이 보낸 알림 구분용
+    private final Object lock = new Object();
+    private volatile LongHashSet memberIds = LongHashSet.empty();
+    private List<Change> pending; // 다시 읽는 동안 들어온 변경 (lock 으로 보호)
+
+    private record Change(boolean add, long memberId) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * DB 에서 블랙리스트를 다시 읽는 메서드
+     * 서버 시작 시와 주기적으로 호출해 놓친 알림이나 회원 영구 삭제를 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    @Transactional(readOnly = true)
+    public void reload() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+
+        long[] ids;
+        try {
+            ids = blacklistRepository.findAllMemberIds().stream().mapToLong(Long::longValue).toArray();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            LongHashSet next = LongHashSet.of(ids);
+            for (Change change : pending) {
+                next = change.add() ? next.with(change.memberId()) : next.without(change.memberId());
+            }
+            memberIds = next;
+            pending = null;
+        }
+        log.info("블랙리스트 적재: {}명", memberIds.size());
+    }
+
+    // 인증 필터에서 요청마다 호출 (잠금, I/O 없음)
+    public boolean contains(Long memberId) {
+        return memberId != null && memberIds.contains(memberId);
+    }
+
+    public void added(Long memberId) {
+        afterCommit(new Change(true, memberId));
+    }
+
+    public void removed(Long memberId) {
+        afterCommit(new Change(false, memberId));
+    }
+
+    // 다른 서버에서 변경된 경우
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length == 3 && !instanceId.equals(parts[0])) {
+            apply(new Change(ADD.equals(parts[1]), Long.parseLong(parts[2])));
+        }
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndPublish(change);
+                }
+            });
+        } else {
+            applyAndPublish(change);
+        }
+    }
+
+    private void applyAndPublish(Change change) {
+        apply(change);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    instanceId + SEPARATOR + (change.add() ? ADD : REMOVE) + SEPARATOR + change.memberId());
+        } catch (Exception e) {
+            log.warn("블랙리스트 변경 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Change change) {
+        synchronized (lock) {
+            memberIds = change.add() ? memberIds.with(change.memberId()) : memberIds.without(change.memberId());
+            if (pending != null) {
+                pending.add(change);
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 public class BlacklistService {
     private final BlacklistRepository blacklistRepository;
     private final MemberRepository memberRepository;
+    private final BlacklistIndexService blacklistIndexService;
 
     //블랙리스트 추가
     @Transactional
@@ -31,6 +32,7 @@ public class BlacklistService {
                 .reason(reason)
                 .build();
         blacklistRepository.save(blacklist);
+        blacklistIndexService.added(memberId);
 
     }
     //블랙리스트 삭제
@@ -43,6 +45,7 @@ public class BlacklistService {
                 .orElseThrow(() -> new IllegalArgumentException("블랙리스트에 등록되지 않은 회원입니다."));
 
         blacklistRepository.delete(blacklist);
+        blacklistIndexService.removed(memberId);
     }
 
     // 블랙리스트 조회
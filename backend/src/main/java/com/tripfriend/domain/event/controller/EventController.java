@@ -1,14 +1,22 @@
 package com.tripfriend.domain.event.controller;
 
+import com.tripfriend.domain.event.dto.EventMonthResponseDto;
 import com.tripfriend.domain.event.dto.EventRequest;
 import com.tripfriend.domain.event.dto.EventResponse;
 import com.tripfriend.domain.event.service.EventService;
 import com.tripfriend.global.annotation.CheckPermission;
+import com.tripfriend.global.dto.PageResponseDto;
+import com.tripfriend.global.version.ContentVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @Tag(name = "Event API", description = "이벤트 관리 기능을 제공합니다.")
@@ -18,6 +26,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final ContentVersionService contentVersionService;
 
     @Operation(summary = "이벤트 목록 조회", description = "등록된 모든 이벤트를 조회합니다.")
     @GetMapping
@@ -25,6 +34,39 @@ public class EventController {
         return eventService.findAll();
     }
 
+    // 변경이 없으면 304 (ETag / Last-Modified)
+    @Operation(summary = "이벤트 페이지 조회", description = "이벤트를 날짜 최신순으로 페이지 단위 조회합니다.")
+    @GetMapping("/list")
+    public ResponseEntity<PageResponseDto<EventResponse>> getPage(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            WebRequest webRequest) {
+        return contentVersionService.conditional(ContentVersionService.EVENT, "p" + page + "-s" + size, webRequest,
+                () -> eventService.findPage(page, size));
+    }
+
+    @Operation(summary = "이벤트 기간 조회", description = "from ~ to (yyyy-MM-dd, 포함) 사이의 이벤트를 날짜순으로 조회합니다.")
+    @GetMapping("/range")
+    public List<EventResponse> getRange(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return eventService.findRange(from, to);
+    }
+
+    @Operation(summary = "이벤트 달력 조회", description = "from ~ to (yyyy-MM) 월별 이벤트를 조회합니다. 최대 12개월")
+    @GetMapping("/calendar")
+    public List<EventMonthResponseDto> getCalendar(
+            @RequestParam(name = "from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return eventService.findCalendar(from, to == null ? from : to);
+    }
+
+    @Operation(summary = "다가오는 이벤트 조회", description = "오늘 이후 이벤트를 날짜순으로 조회합니다. (홈 화면용)")
+    @GetMapping("/upcoming")
+    public List<EventResponse> getUpcoming(@RequestParam(name = "limit", defaultValue = "5") int limit) {
+        return eventService.findUpcoming(limit);
+    }
+
     @Operation(summary = "이벤트 생성", description = "새로운 이벤트를 등록합니다.")
     @PostMapping
     @CheckPermission("ADMIN")
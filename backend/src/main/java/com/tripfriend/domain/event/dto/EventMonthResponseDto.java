@@ -0,0 +1,16 @@
+package com.tripfriend.domain.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 달력의 한 달 (이벤트는 날짜순)
+@Getter
+@NoArgsConstructor // 캐시에서 복원할 때 필요
+@AllArgsConstructor
+public class EventMonthResponseDto {
+    private String month; // yyyy-MM
+    private List<EventResponse> events;
+}
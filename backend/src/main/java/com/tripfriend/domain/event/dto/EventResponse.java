@@ -1,13 +1,16 @@
 package com.tripfriend.domain.event.dto;
 
+import com.tripfriend.domain.event.entity.Event;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor // 캐시에서 복원할 때 필요
 @AllArgsConstructor
 @Builder
 public class EventResponse {
@@ -16,4 +19,14 @@ public class EventResponse {
     private String description;
     private LocalDate eventDate;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+
+    public static EventResponse from(Event event) {
+        return EventResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .eventDate(event.getEventDate())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_event_event_date", columnList = "eventDate, id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,5 +3,11 @@ package com.tripfriend.domain.event.repository;
 import com.tripfriend.domain.event.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // 기간 조회 (idx_event_event_date 사용)
+    List<Event> findByEventDateBetweenOrderByEventDateAscIdAsc(LocalDate from, LocalDate to);
 }
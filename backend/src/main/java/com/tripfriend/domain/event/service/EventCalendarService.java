@@ -0,0 +1,31 @@
+package com.tripfriend.domain.event.service;
+
+import com.tripfriend.domain.event.dto.EventMonthResponseDto;
+import com.tripfriend.domain.event.dto.EventResponse;
+import com.tripfriend.domain.event.repository.EventRepository;
+import com.tripfriend.global.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.stream.Collectors;
+
+// 월별 이벤트 캐시 (EventService 에서 호출해야 프록시를 거치므로 분리)
+@Service
+@RequiredArgsConstructor
+public class EventCalendarService {
+
+    private final EventRepository eventRepository;
+
+    @Cacheable(cacheNames = CacheNames.EVENT_CALENDAR, key = "#month.toString()", sync = true)
+    @Transactional(readOnly = true)
+    public EventMonthResponseDto getMonth(YearMonth month) {
+        return new EventMonthResponseDto(month.toString(),
+                eventRepository.findByEventDateBetweenOrderByEventDateAscIdAsc(month.atDay(1), month.atEndOfMonth())
+                        .stream()
+                        .map(EventResponse::from)
+                        .collect(Collectors.toList()));
+    }
+}
@@ -1,12 +1,26 @@
 package com.tripfriend.domain.event.service;
 
+import com.tripfriend.domain.event.dto.EventMonthResponseDto;
 import com.tripfriend.domain.event.dto.EventRequest;
 import com.tripfriend.domain.event.dto.EventResponse;
 import com.tripfriend.domain.event.entity.Event;
 import com.tripfriend.domain.event.repository.EventRepository;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
+import com.tripfriend.global.dto.PageResponseDto;
+import com.tripfriend.global.exception.ServiceException;
+import com.tripfriend.global.version.ContentVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,8 +28,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EventService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_CALENDAR_MONTHS = 12;
+    private static final int MAX_UPCOMING_SIZE = 50;
+
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersionService contentVersionService;
+    private final EventCalendarService eventCalendarService;
 
+    // 홈 화면용 캐시
+    @Cacheable(cacheNames = CacheNames.EVENTS, key = "'all'", sync = true)
     public List<EventResponse> findAll() {
         return eventRepository.findAll().stream()
                 .map(event -> EventResponse.builder()
@@ -28,6 +52,57 @@ public class EventService {
                 ).collect(Collectors.toList());
     }
 
+    // 이벤트 날짜 최신순 페이지 조회
+    @Transactional(readOnly = true)
+    public PageResponseDto<EventResponse> findPage(int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Order.desc("eventDate"), Sort.Order.desc("id")));
+        return PageResponseDto.of(eventRepository.findAll(pageRequest).map(EventResponse::from));
+    }
+
+    // 기간 조회 (from, to 포함)
+    @Transactional(readOnly = true)
+    public List<EventResponse> findRange(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return eventRepository.findByEventDateBetweenOrderByEventDateAscIdAsc(from, to).stream()
+                .map(EventResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 달력 조회 (월별 캐시를 모아서 반환)
+    public List<EventMonthResponseDto> findCalendar(YearMonth from, YearMonth to) {
+        if (from.isAfter(to) || from.plusMonths(MAX_CALENDAR_MONTHS - 1).isBefore(to)) {
+            throw new ServiceException("400-3", "달력 조회는 최대 %d개월까지 가능합니다.".formatted(MAX_CALENDAR_MONTHS));
+        }
+
+        List<EventMonthResponseDto> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(eventCalendarService.getMonth(month));
+        }
+        return months;
+    }
+
+    // 다가오는 이벤트 (오늘부터, 월별 캐시에서 꺼낸다)
+    public List<EventResponse> findUpcoming(int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_UPCOMING_SIZE);
+        LocalDate today = LocalDate.now();
+
+        List<EventResponse> upcoming = new ArrayList<>();
+        YearMonth month = YearMonth.from(today);
+        for (int i = 0; i < MAX_CALENDAR_MONTHS && upcoming.size() < size; i++, month = month.plusMonths(1)) {
+            for (EventResponse event : eventCalendarService.getMonth(month).getEvents()) {
+                if (!event.getEventDate().isBefore(today)) {
+                    upcoming.add(event);
+                    if (upcoming.size() == size) {
+                        break;
+                    }
+                }
+            }
+        }
+        return upcoming;
+    }
+
+    @Transactional
     public EventResponse create(EventRequest request) {
         Event event = Event.builder()
                 .title(request.getTitle())
@@ -36,6 +111,8 @@ public class EventService {
                 .build();
 
         Event saved = eventRepository.save(event);
+        contentVersionService.bump(ContentVersionService.EVENT);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.EVENTS, CacheNames.EVENT_CALENDAR));
 
         return EventResponse.builder()
                 .id(saved.getId())
@@ -46,10 +123,14 @@ public class EventService {
                 .build();
     }
 
+    @Transactional
     public void delete(Long id) {
         eventRepository.deleteById(id);
+        contentVersionService.bump(ContentVersionService.EVENT);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.EVENTS, CacheNames.EVENT_CALENDAR));
     }
 
+    @Transactional
     public EventResponse update(Long id, EventRequest request) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없습니다."));
@@ -60,6 +141,8 @@ public class EventService {
         // 수정 시간 자동 업데이트
 
         Event updated = eventRepository.save(event);
+        contentVersionService.bump(ContentVersionService.EVENT);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.EVENTS, CacheNames.EVENT_CALENDAR));
 
         return EventResponse.builder()
                 .id(updated.getId())
@@ -70,4 +153,12 @@ public class EventService {
                 .build();
     }
 
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ServiceException("400-1", "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new ServiceException("400-2", "조회 기간은 최대 %d일까지 가능합니다.".formatted(MAX_RANGE_DAYS));
+        }
+    }
 }
@@ -4,6 +4,8 @@ import com.tripfriend.domain.member.member.dto.*;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.member.member.service.MailService;
+import com.tripfriend.domain.member.member.service.MemberAvailabilityService;
+import com.tripfriend.domain.member.member.service.MemberExportService;
 import com.tripfriend.domain.member.member.service.MemberService;
 import com.tripfriend.global.annotation.CheckPermission;
 import com.tripfriend.global.dto.RsData;
@@ -14,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,7 +24,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Member API", description = "회원관련 기능을 제공합니다.")
@@ -33,6 +35,8 @@ public class MemberController {
     private final MemberService memberService;
     private final AuthService authService;
     private final MailService mailService;
+    private final MemberExportService memberExportService;
+    private final MemberAvailabilityService memberAvailabilityService;
 
     //회원정보 조회
     @Operation(summary = "회원정보 조회")
@@ -47,6 +51,20 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    //아이디, 닉네임 중복 확인 (IP 별 요청 제한)
+    @Operation(summary = "중복 확인", description = "type(username, nickname)과 value 로 사용 가능 여부를 확인합니다.")
+    @GetMapping("/availability")
+    public RsData<MemberAvailabilityResponseDto> checkAvailability(@RequestParam("type") String type,
+                                                                   @RequestParam("value") String value) {
+
+        MemberIdentifierType identifierType = MemberIdentifierType.from(type);
+        boolean available = !memberAvailabilityService.isTaken(identifierType, value);
+
+        return available
+                ? new RsData<>("200-1", "사용 가능한 " + identifierType.getLabel() + "입니다.", new MemberAvailabilityResponseDto(identifierType, value, true))
+                : new RsData<>("200-2", "이미 사용 중인 " + identifierType.getLabel() + "입니다.", new MemberAvailabilityResponseDto(identifierType, value, false));
+    }
+
     @Operation(summary = "회원가입")
     @PostMapping("/join")
     public RsData<MemberResponseDto> join(@Valid @RequestBody JoinRequestDto joinRequestDto) throws MessagingException {
@@ -150,14 +168,31 @@ public class MemberController {
     }
 
     //관리자 회원 조회
-    @Operation(summary = "전체 회원 목록 조회 (관리자 전용)")
+    @Operation(summary = "전체 회원 목록 조회 (관리자 전용)", description = "탈퇴/인증 여부, 가입 경로(provider, local), 권한으로 필터링하고 cursor 기반으로 페이지를 나눠 조회합니다.")
     @GetMapping("/all")
     @CheckPermission("ADMIN") //관리자
-    public ResponseEntity<List<MemberResponseDto>> getAllMembers() {
-        List<MemberResponseDto> members = memberService.getAllMembers();
+    public ResponseEntity<MemberPageResponseDto> getAllMembers(@ModelAttribute MemberSearchCondition condition) {
+        MemberPageResponseDto members = memberService.getMembers(condition);
         return ResponseEntity.ok(members);
     }
 
+    //관리자 회원 목록 내보내기 (csv / ndjson)
+    @Operation(summary = "회원 목록 내보내기 (관리자 전용)", description = "조회 조건에 맞는 전체 회원을 CSV 또는 NDJSON 으로 내려받습니다.")
+    @GetMapping("/all/export")
+    @CheckPermission("ADMIN") //관리자
+    public void exportMembers(@ModelAttribute MemberSearchCondition condition,
+                              @RequestParam(value = "format", required = false) String format,
+                              HttpServletResponse response) throws IOException {
+
+        MemberExportFormat exportFormat = MemberExportFormat.from(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members." + exportFormat.getExtension() + "\"");
+
+        memberExportService.export(condition, exportFormat, response.getOutputStream());
+    }
+
     @Operation(summary = "프로필 이미지 등록")
     @PostMapping(value = "/profile-image/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public RsData<String> uploadProfileImage(@RequestHeader(value = "Authorization", required = false) String token,
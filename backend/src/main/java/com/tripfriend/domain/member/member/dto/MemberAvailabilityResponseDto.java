@@ -0,0 +1,13 @@
+package com.tripfriend.domain.member.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberAvailabilityResponseDto {
+
+    private MemberIdentifierType type;
+    private String value;
+    private boolean available; // 사용 가능하면 true
+}
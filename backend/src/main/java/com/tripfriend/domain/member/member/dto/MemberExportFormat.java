@@ -0,0 +1,32 @@
+package com.tripfriend.domain.member.member.dto;
+
+import com.tripfriend.global.exception.ServiceException;
+import lombok.Getter;
+
+@Getter
+public enum MemberExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"); // JSON lines
+
+    private final String contentType;
+    private final String extension;
+
+    MemberExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    // 요청 파라미터 문자열을 내보내기 형식으로 변환
+    public static MemberExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (MemberExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ServiceException("400-3", "지원하지 않는 내보내기 형식입니다.");
+    }
+}
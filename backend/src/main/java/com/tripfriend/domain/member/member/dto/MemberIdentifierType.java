@@ -0,0 +1,31 @@
+package com.tripfriend.domain.member.member.dto;
+
+import com.tripfriend.global.exception.ServiceException;
+import lombok.Getter;
+
+// 중복 확인 대상 (아이디 / 닉네임)
+// 이메일은 비로그인 요청으로 가입 여부를 알아낼 수 있게 되므로 제외 (가입 / 수정 요청에서 DB 로 확인)
+@Getter
+public enum MemberIdentifierType {
+
+    USERNAME("아이디"),
+    NICKNAME("닉네임");
+
+    private final String label;
+
+    MemberIdentifierType(String label) {
+        this.label = label;
+    }
+
+    // 요청 파라미터 문자열을 확인 대상으로 변환
+    public static MemberIdentifierType from(String value) {
+        if (value != null) {
+            for (MemberIdentifierType type : values()) {
+                if (type.name().equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+        }
+        throw new ServiceException("400-1", "지원하지 않는 중복 확인 항목입니다.");
+    }
+}
@@ -0,0 +1,20 @@
+package com.tripfriend.domain.member.member.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 관리자 회원 목록 조회 조건 (쿼리 파라미터)
+@Getter
+@Setter
+@NoArgsConstructor
+public class MemberSearchCondition {
+
+    private Boolean deleted;        // 탈퇴(soft delete) 여부
+    private Boolean verified;       // 이메일 인증 여부
+    private String provider;        // 소셜 로그인 제공자 (local 이면 일반 가입)
+    private String authority;       // 권한 (USER, ADMIN)
+    private Long cursor;            // 이전 페이지 마지막 회원 ID (첫 페이지는 null)
+    private Integer size = 50;      // 페이지 크기
+    private boolean includeAboutMe; // 자기소개(LOB) 포함 여부
+}
@@ -11,8 +11,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
+@Table(indexes = @Index(name = "idx_member_deleted_at", columnList = "deleted, deleted_at"))
 public class Member {
 
+    public static final String NO_PASSWORD = "{none}"; // 소셜 로그인 회원 (비밀번호 로그인 불가)
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
     private Long id;
@@ -0,0 +1,70 @@
+package com.tripfriend.domain.member.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 탈퇴 회원 영구 삭제 작업 진행 상황 (중단되면 마지막으로 처리한 회원 ID 다음부터 이어서 진행)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_purge_progress")
+public class MemberPurgeProgress {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "cutoff")
+    private LocalDateTime cutoff; // 이 시각 이전에 탈퇴한 회원이 대상
+
+    @Column(name = "last_member_id", nullable = false)
+    private Long lastMemberId = 0L; // 마지막으로 처리한 회원 ID
+
+    @Column(name = "purged_count", nullable = false)
+    private long purgedCount; // 이번 실행에서 삭제한 회원 수
+
+    @Column(name = "running", nullable = false)
+    private boolean running; // 실행 중(또는 중단됨) 여부
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public MemberPurgeProgress(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // 새 실행 시작
+    public void start(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+        this.lastMemberId = 0L;
+        this.purgedCount = 0;
+        this.running = true;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+        this.finishedAt = null;
+    }
+
+    // 청크 하나 처리 완료
+    public void advance(Long lastMemberId, int purged) {
+        this.lastMemberId = lastMemberId;
+        this.purgedCount += purged;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 실행 완료
+    public void finish() {
+        this.running = false;
+        this.finishedAt = LocalDateTime.now();
+        this.updatedAt = this.finishedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.tripfriend.domain.member.member.repository;
+
+import com.tripfriend.domain.member.member.entity.MemberPurgeProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MemberPurgeProgressRepository extends JpaRepository<MemberPurgeProgress, String> {
+}
@@ -1,13 +1,23 @@
 package com.tripfriend.domain.member.member.repository;
 
 import com.tripfriend.domain.member.member.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
     boolean existsByUsername(String username);
 
@@ -17,6 +27,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUsername(String username);
 
+    // 중복 확인 필터 재구성용 (아이디, 닉네임만 스트리밍, MySQL 은 useCursorFetch=true 필요)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.username, m.nickname FROM Member m")
+    Stream<Object[]> streamIdentifiers();
+
     Optional<Member> findByEmail(String email);
 
     // 삭제된 계정만 조회
@@ -30,4 +45,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 삭제된 계정 중 해당 날짜 이전에 삭제된 계정들 조회
     List<Member> findByDeletedTrueAndDeletedAtBefore(LocalDateTime date);
+
+    // 해당 날짜 이전에 삭제된 계정 ID 를 lastId 다음부터 순서대로 조회 (영구 삭제 청크용)
+    @Query("SELECT m.id FROM Member m WHERE m.deleted = true AND m.deletedAt < :cutoff AND m.id > :lastId ORDER BY m.id")
+    List<Long> findExpiredDeletedIds(@Param("cutoff") LocalDateTime cutoff, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 로그인 시 비밀번호 재해시 (그 사이 비밀번호가 바뀌었으면 반영하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 회원 일괄 영구 삭제 (의존 데이터는 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM Member m WHERE m.id IN :memberIds")
+    int deleteByIds(@Param("memberIds") List<Long> memberIds);
 }
@@ -0,0 +1,16 @@
+package com.tripfriend.domain.member.member.repository;
+
+import com.tripfriend.domain.member.member.dto.MemberResponseDto;
+import com.tripfriend.domain.member.member.dto.MemberSearchCondition;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface MemberRepositoryCustom {
+
+    // 조건에 맞는 회원을 ID 내림차순으로 cursor 다음부터 limit 명 조회
+    List<MemberResponseDto> findMembers(MemberSearchCondition condition, int limit);
+
+    // 조건에 맞는 회원 전체를 커서로 읽는 스트림 (호출 측에서 close 필요)
+    Stream<MemberResponseDto> streamMembers(MemberSearchCondition condition);
+}
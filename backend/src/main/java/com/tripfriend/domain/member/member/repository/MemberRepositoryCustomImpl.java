@@ -0,0 +1,109 @@
+package com.tripfriend.domain.member.member.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tripfriend.domain.member.member.dto.MemberResponseDto;
+import com.tripfriend.domain.member.member.dto.MemberSearchCondition;
+import com.tripfriend.domain.member.member.entity.QMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String LOCAL_PROVIDER = "local"; // 일반 가입 회원 (provider 없음)
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QMember member = QMember.member;
+
+    @Override
+    public List<MemberResponseDto> findMembers(MemberSearchCondition condition, int limit) {
+        BooleanBuilder builder = filter(condition);
+
+        // 키셋 페이지네이션: OFFSET 없이 마지막 ID 다음부터
+        if (condition.getCursor() != null) {
+            builder.and(member.id.lt(condition.getCursor()));
+        }
+
+        return select(condition)
+                .where(builder)
+                .orderBy(member.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> toDto(tuple, condition.isIncludeAboutMe()))
+                .toList();
+    }
+
+    @Override
+    public Stream<MemberResponseDto> streamMembers(MemberSearchCondition condition) {
+        return select(condition)
+                .where(filter(condition))
+                .orderBy(member.id.desc())
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE) // MySQL 은 useCursorFetch=true 일 때만 적용 (application-prod.yml)
+                .stream()
+                .map(tuple -> toDto(tuple, condition.isIncludeAboutMe()));
+    }
+
+    // 필요한 컬럼만 조회 (자기소개 LOB 은 요청한 경우에만)
+    private JPAQuery<Tuple> select(MemberSearchCondition condition) {
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                member.id, member.username, member.email, member.nickname, member.profileImage,
+                member.gender, member.ageRange, member.travelStyle, member.rating,
+                member.createdAt, member.updatedAt, member.authority
+        ));
+        if (condition.isIncludeAboutMe()) {
+            columns.add(member.aboutMe);
+        }
+        return jpaQueryFactory.select(columns.toArray(Expression[]::new)).from(member);
+    }
+
+    private BooleanBuilder filter(MemberSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (condition.getDeleted() != null) {
+            builder.and(member.deleted.eq(condition.getDeleted()));
+        }
+        if (condition.getVerified() != null) {
+            builder.and(member.verified.eq(condition.getVerified()));
+        }
+        if (condition.getProvider() != null && !condition.getProvider().isBlank()) {
+            builder.and(LOCAL_PROVIDER.equalsIgnoreCase(condition.getProvider())
+                    ? member.provider.isNull()
+                    : member.provider.eq(condition.getProvider()));
+        }
+        if (condition.getAuthority() != null && !condition.getAuthority().isBlank()) {
+            builder.and(member.authority.eq(condition.getAuthority()));
+        }
+        return builder;
+    }
+
+    private MemberResponseDto toDto(Tuple tuple, boolean includeAboutMe) {
+        return new MemberResponseDto(
+                tuple.get(member.id),
+                tuple.get(member.username),
+                tuple.get(member.email),
+                tuple.get(member.nickname),
+                tuple.get(member.profileImage),
+                tuple.get(member.gender),
+                tuple.get(member.ageRange),
+                tuple.get(member.travelStyle),
+                includeAboutMe ? tuple.get(member.aboutMe) : null,
+                tuple.get(member.rating),
+                tuple.get(member.createdAt),
+                tuple.get(member.updatedAt),
+                tuple.get(member.authority)
+        );
+    }
+}
@@ -5,6 +5,8 @@ import com.tripfriend.domain.member.member.dto.LoginRequestDto;
 import com.tripfriend.domain.member.member.dto.TokenInfoDto;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.global.ratelimit.RateLimitPolicy;
+import com.tripfriend.global.ratelimit.RateLimiter;
 import com.tripfriend.global.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
@@ -26,10 +28,14 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiter rateLimiter;
 
     // 로그인 처리
     public AuthResponseDto login(LoginRequestDto loginRequestDto, HttpServletResponse response) {
 
+        // 같은 아이디로 반복 시도하면 BCrypt 비교 전에 거절
+        rateLimiter.check(RateLimitPolicy.LOGIN_USERNAME, loginRequestDto.getUsername());
+
         // 회원 인증 처리
         Member member = memberRepository.findByUsername(loginRequestDto.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 회원입니다."));
@@ -38,6 +44,12 @@ public class AuthService {
             throw new RuntimeException("비밀번호를 확인하세요.");
         }
 
+        // 해시 비용이 바뀌었거나 예전 형식이면 새 설정으로 다시 저장
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            memberRepository.updatePasswordIfUnchanged(member.getId(), member.getPassword(),
+                    passwordEncoder.encode(loginRequestDto.getPassword()));
+        }
+
         // 계정이 삭제된 상태인 경우
         if (member.isDeleted()) {
             // 복구 가능한 경우
@@ -3,10 +3,16 @@ package com.tripfriend.domain.member.member.service;
 import com.tripfriend.domain.member.member.dto.EmailVerificationRequestDto;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.global.ratelimit.RateLimitPolicy;
+import com.tripfriend.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mail.MailException;
@@ -16,14 +22,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
+    @Lazy // 첫 메일 발송 때 SMTP 설정 빈 생성
     private final JavaMailSender javaMailSender;
     private final MemberRepository memberRepository;
     private final StringRedisTemplate redisTemplate;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger sendingCount = new AtomicInteger(); // 발송 중인 메일 수 (SMTP 대기)
 
     @Value("${spring.mail.username}")
     private String senderEmail;
@@ -34,6 +46,11 @@ public class MailService {
     // Redis에 키 저장 시 접두어 (선택사항)
     private static final String EMAIL_AUTH_PREFIX = "EMAIL_AUTH:";
 
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("mail.send.in.flight", sendingCount);
+    }
+
     public String createCode() {
         Random random = new Random();
         StringBuilder key = new StringBuilder();
@@ -69,16 +86,26 @@ public class MailService {
         String authCode = createCode(); // 랜덤 인증번호 생성
 
         MimeMessage message = createMail(sendEmail, authCode); // 메일 생성
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        sendingCount.incrementAndGet();
         try {
             javaMailSender.send(message); // 메일 발송
             return authCode;
         } catch (MailException e) {
+            result = "failure";
             return null;
+        } finally {
+            sendingCount.decrementAndGet();
+            sample.stop(meterRegistry.timer("mail.send", "result", result));
         }
     }
 
     @Transactional
     public boolean sendAuthCode(String email) throws MessagingException {
+        // 같은 주소로 반복 요청하면 SMTP 발송 전에 거절
+        rateLimiter.check(RateLimitPolicy.EMAIL_SEND_ADDRESS, email);
+
         String authCode = sendSimpleMessage(email); // 이메일 인증 코드 발송
 
         if (authCode != null) {
@@ -100,6 +127,9 @@ public class MailService {
         String email = emailVerificationRequestDto.getEmail();
         String authCode = emailVerificationRequestDto.getAuthCode();
 
+        // 인증 코드 추측 방지
+        rateLimiter.check(RateLimitPolicy.EMAIL_VERIFY_ADDRESS, email);
+
         // Redis에서 인증 코드 조회
         ValueOperations<String, String> values = redisTemplate.opsForValue();
         String key = EMAIL_AUTH_PREFIX + email;
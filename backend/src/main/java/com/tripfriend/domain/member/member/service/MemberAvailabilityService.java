@@ -0,0 +1,204 @@
+package com.tripfriend.domain.member.member.service;
+
+import com.tripfriend.domain.member.member.dto.MemberIdentifierType;
+import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.global.init.InitDataSeededEvent;
+import com.tripfriend.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 아이디 / 닉네임 중복 확인 서비스 (/member/availability 전용, IP 별 요청 제한은 RateLimitFilter)
+ * 값마다 블룸 필터를 메모리에 두고, 필터에 없으면 SQL 없이 바로 사용 가능으로 답한다.
+ * 필터에 있을 수도 있는 값만 DB 에서 다시 확인한다.
+ * 새 값은 커밋 후 필터에 추가하고 Redis 채널로 다른 서버에도 알린다.
+ * 다른 서버의 반영이 늦거나 알림이 유실되면 잠시 틀린 답을 줄 수 있으므로, 가입 / 수정은 이 서비스를 쓰지 않고 DB 로 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberAvailabilityService implements MessageListener {
+
+    static final String CHANNEL = "member:availability";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_EXPECTED_INSERTIONS = 10_000; // 회원이 적을 때도 증가분을 받을 여유
+    private static final String SEPARATOR = "\n";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String instanceId = UUID.randomUUID().toString(); // 자기 자신이 보낸 알림 구분용
+    private final Object lock = new Object();
+    private volatile Map<MemberIdentifierType, BloomFilter> filters; // null 이면 아직 적재 전 (항상 DB 확인)
+    private Map<MemberIdentifierType, BloomFilter> building; // 재구성 중인 필터 (lock 으로 보호)
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 중복 확인 필터를 DB 에서 다시 만드는 메서드
+     * 서버 시작 시, 주기적으로, 회원 영구 삭제 후에 호출해 삭제된 값이 오탐으로 남지 않게 한다.
+     */
+    @EventListener({ApplicationReadyEvent.class, InitDataSeededEvent.class}) // 시작 시, 준비 후 시드가 끝났을 때
+    @Scheduled(fixedDelay = 6 * 60 * 60 * 1000L, initialDelay = 6 * 60 * 60 * 1000L)
+    public void rebuild() {
+        // 크기 계산용 count 는 스트리밍과 다른 트랜잭션에서 실행한다.
+        // 같은 트랜잭션이면 첫 조회에서 스냅샷이 고정되어, 등록 전에 커밋된 값이 스냅샷과 새 필터 양쪽에서 빠진다.
+        long expected = Math.max(MIN_EXPECTED_INSERTIONS, memberRepository.count() * 2);
+        Map<MemberIdentifierType, BloomFilter> next = new EnumMap<>(MemberIdentifierType.class);
+        for (MemberIdentifierType type : MemberIdentifierType.values()) {
+            next.put(type, new BloomFilter(expected, FALSE_POSITIVE_RATE));
+        }
+
+        // 스트리밍 트랜잭션 시작 전에 등록해 두어야 그 사이 / 조회 도중 커밋된 값도 새 필터에 들어간다
+        synchronized (lock) {
+            building = next;
+        }
+
+        long count;
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            count = transactionTemplate.execute(status -> fill(next));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                building = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            filters = next;
+            building = null;
+        }
+        log.info("회원 중복 확인 필터 재구성: {}명", count);
+    }
+
+    private long fill(Map<MemberIdentifierType, BloomFilter> target) {
+        long count = 0;
+        try (Stream<Object[]> rows = memberRepository.streamIdentifiers()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                put(target, MemberIdentifierType.USERNAME, (String) row[0]);
+                put(target, MemberIdentifierType.NICKNAME, (String) row[1]);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 이미 사용 중인 값인지 확인하는 메서드
+     *
+     * @param type  확인 대상
+     * @param value 확인할 값
+     * @return 사용 중이면 true
+     */
+    public boolean isTaken(MemberIdentifierType type, String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+
+        Map<MemberIdentifierType, BloomFilter> current = filters;
+        if (current != null && !current.get(type).mightContain(normalize(value))) {
+            return false; // 확실히 없는 값
+        }
+
+        return switch (type) {
+            case USERNAME -> memberRepository.existsByUsername(value);
+            case NICKNAME -> memberRepository.existsByNickname(value);
+        };
+    }
+
+    /**
+     * 새로 사용하게 된 값을 필터에 추가하는 메서드
+     * 트랜잭션 안이면 커밋 후에 추가한다. (필터 재구성 중 커밋된 값이 빠지지 않도록)
+     *
+     * @param type  대상
+     * @param value 추가할 값
+     */
+    public void register(MemberIdentifierType type, String value) {
+        if (value == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registerAndPublish(type, value);
+                }
+            });
+        } else {
+            registerAndPublish(type, value);
+        }
+    }
+
+    // 다른 서버에서 추가된 값
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length == 3 && !instanceId.equals(parts[0])) {
+            for (MemberIdentifierType type : MemberIdentifierType.values()) {
+                if (type.name().equals(parts[1])) { // 이전 버전 서버가 보낸 EMAIL 등 모르는 항목은 무시
+                    registerLocally(type, parts[2]);
+                }
+            }
+        }
+    }
+
+    private void registerAndPublish(MemberIdentifierType type, String value) {
+        registerLocally(type, value);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + type.name() + SEPARATOR + value);
+        } catch (Exception e) {
+            log.warn("회원 중복 확인 필터 변경 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void registerLocally(MemberIdentifierType type, String value) {
+        synchronized (lock) {
+            if (filters != null) {
+                put(filters, type, value);
+            }
+            if (building != null) {
+                put(building, type, value);
+            }
+        }
+    }
+
+    private void put(Map<MemberIdentifierType, BloomFilter> target, MemberIdentifierType type, String value) {
+        if (value != null) {
+            target.get(type).put(normalize(value));
+        }
+    }
+
+    // DB 콜레이션이 대소문자를 구분하지 않으므로 필터도 소문자로 맞춘다
+    private String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.tripfriend.domain.member.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripfriend.domain.member.member.dto.MemberExportFormat;
+import com.tripfriend.domain.member.member.dto.MemberResponseDto;
+import com.tripfriend.domain.member.member.dto.MemberSearchCondition;
+import com.tripfriend.domain.member.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    private static final int FLUSH_INTERVAL = 500; // 몇 건마다 출력 스트림을 비울지
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 회원을 커서로 읽으면서 출력 스트림에 바로 기록하는 메서드
+     * 엔티티가 아닌 필요한 컬럼만 읽으므로 회원 수가 많아도 힙 사용량이 일정하다.
+     *
+     * @param condition 조회 조건 (cursor, size 는 무시)
+     * @param format    내보내기 형식
+     * @param out       응답 출력 스트림
+     */
+    @Transactional(readOnly = true)
+    public void export(MemberSearchCondition condition, MemberExportFormat format, OutputStream out) throws IOException {
+        try (Stream<MemberResponseDto> rows = memberRepository.streamMembers(condition)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+            if (format == MemberExportFormat.CSV) {
+                // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writer.write("\uFEFFid,username,email,nickname,gender,age_range,travel_style,rating,"
+                        + "authority,created_at,updated_at" + (condition.isIncludeAboutMe() ? ",about_me" : "") + "\n");
+            }
+
+            Iterator<MemberResponseDto> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                MemberResponseDto row = iterator.next();
+                if (format == MemberExportFormat.CSV) {
+                    writeCsv(writer, row, condition.isIncludeAboutMe());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row) + "\n");
+                }
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        }
+    }
+
+    private void writeCsv(Writer writer, MemberResponseDto row, boolean includeAboutMe) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(row.getId()),
+                csv(row.getUsername()),
+                csv(row.getEmail()),
+                csv(row.getNickname()),
+                String.valueOf(row.getGender()),
+                String.valueOf(row.getAgeRange()),
+                String.valueOf(row.getTravelStyle()),
+                String.valueOf(row.getRating()),
+                csv(row.getAuthority()),
+                String.valueOf(row.getCreatedAt()),
+                String.valueOf(row.getUpdatedAt()))
+                + (includeAboutMe ? "," + csv(row.getAboutMe()) : "")
+                + "\n");
+    }
+
+    // CSV 필드 이스케이프 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다)
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
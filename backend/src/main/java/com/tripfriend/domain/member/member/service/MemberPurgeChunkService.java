@@ -0,0 +1,111 @@
+package com.tripfriend.domain.member.member.service;
+
+import com.tripfriend.domain.blacklist.repository.BlacklistRepository;
+import com.tripfriend.domain.member.member.entity.MemberPurgeProgress;
+import com.tripfriend.domain.member.member.repository.MemberPurgeProgressRepository;
+import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.domain.qna.repository.AnswerRepository;
+import com.tripfriend.domain.qna.repository.QuestionRepository;
+import com.tripfriend.domain.recruit.apply.repository.ApplyRepository;
+import com.tripfriend.domain.recruit.recruit.event.RecruitClosedEvent;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.domain.review.repository.CommentRepository;
+import com.tripfriend.domain.review.repository.ReviewRepository;
+import com.tripfriend.domain.review.repository.ReviewViewCountRepository;
+import com.tripfriend.domain.trip.budget.repository.TripBudgetRepository;
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository;
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 탈퇴 회원 영구 삭제의 청크 단위 처리 (청크마다 별도 트랜잭션)
+@Service
+@RequiredArgsConstructor
+public class MemberPurgeChunkService {
+
+    static final String JOB_NAME = "expired-member-purge";
+
+    private final MemberPurgeProgressRepository progressRepository;
+    private final MemberRepository memberRepository;
+    private final CommentRepository commentRepository;
+    private final ReviewViewCountRepository reviewViewCountRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplyRepository applyRepository;
+    private final RecruitRepository recruitRepository;
+    private final AnswerRepository answerRepository;
+    private final QuestionRepository questionRepository;
+    private final TripBudgetRepository tripBudgetRepository;
+    private final TripInformationRepository tripInformationRepository;
+    private final TripScheduleRepository tripScheduleRepository;
+    private final BlacklistRepository blacklistRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 작업을 시작하거나, 이전 실행이 중단된 경우 그 지점부터 이어서 진행하도록 준비하는 메서드
+     *
+     * @param cutoff 새로 시작할 때 사용할 기준 시각 (이어서 진행하면 이전 기준 시각 유지)
+     * @return 진행 상황
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public MemberPurgeProgress begin(LocalDateTime cutoff) {
+        MemberPurgeProgress progress = progressRepository.findById(JOB_NAME)
+                .orElseGet(() -> progressRepository.save(new MemberPurgeProgress(JOB_NAME)));
+
+        if (!progress.isRunning()) {
+            progress.start(cutoff);
+        }
+        return progress;
+    }
+
+    /**
+     * 다음 청크의 회원과 의존 데이터를 일괄 삭제하고 진행 상황을 같은 트랜잭션에서 기록하는 메서드
+     * 의존 데이터는 FK 순서대로 삭제한다. (댓글/조회수 -> 리뷰, 신청 -> 모집글, 답변 -> 질문,
+     * 예산 집계/세부 일정 -> 일정, 블랙리스트 -> 회원)
+     * 다른 회원의 모집글에 남긴 신청이 지워지면 그 모집글의 남은 자리를 다시 계산한다.
+     *
+     * @param chunkSize 한 번에 처리할 회원 수
+     * @return 이번 청크에서 삭제한 회원 수 (0 이면 작업 완료)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purgeChunk(int chunkSize) {
+        MemberPurgeProgress progress = progressRepository.findById(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("영구 삭제 작업이 시작되지 않았습니다."));
+
+        List<Long> memberIds = memberRepository.findExpiredDeletedIds(
+                progress.getCutoff(), progress.getLastMemberId(), PageRequest.of(0, chunkSize));
+
+        if (memberIds.isEmpty()) {
+            progress.finish();
+            return 0;
+        }
+
+        commentRepository.deleteByMemberIds(memberIds);
+        reviewViewCountRepository.deleteByReviewMemberIds(memberIds);
+        reviewRepository.deleteByMemberIds(memberIds);
+        List<Long> appliedRecruitIds = applyRepository.findOtherRecruitIdsByMemberIds(memberIds);
+        List<Long> deletedRecruitIds = recruitRepository.findIdsByMemberIds(memberIds);
+        applyRepository.deleteByMemberIds(memberIds);
+        if (!appliedRecruitIds.isEmpty()) {
+            recruitRepository.recountSlots(appliedRecruitIds);
+        }
+        recruitRepository.deleteByMemberIds(memberIds);
+        answerRepository.deleteByMemberIds(memberIds);
+        questionRepository.deleteByMemberIds(memberIds);
+        tripBudgetRepository.deleteByMemberIds(memberIds);
+        tripInformationRepository.deleteByMemberIds(memberIds);
+        tripScheduleRepository.deleteByMemberIds(memberIds);
+        blacklistRepository.deleteByMemberIds(memberIds);
+        int purged = memberRepository.deleteByIds(memberIds);
+
+        progress.advance(memberIds.get(memberIds.size() - 1), purged);
+        eventPublisher.publishEvent(new RecruitClosedEvent(deletedRecruitIds)); // 커밋 후 추천 후보에서 제거
+        return purged;
+    }
+}
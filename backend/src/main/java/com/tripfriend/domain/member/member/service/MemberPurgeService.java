@@ -0,0 +1,79 @@
+package com.tripfriend.domain.member.member.service;
+
+import com.tripfriend.domain.member.member.entity.MemberPurgeProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 탈퇴 후 보관 기간이 지난 회원을 영구 삭제하는 작업
+ * Redis 락으로 한 서버에서만 실행하고, 청크마다 커밋하므로 중간에 중단돼도 다음 실행에서 이어서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberPurgeService {
+
+    static final String LOCK_KEY = "lock:member-purge";
+    static final int RETENTION_DAYS = 30; // 탈퇴 후 복구 가능 기간
+    static final int CHUNK_SIZE = 100;
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5); // 청크마다 연장
+
+    // 내가 잡은 락일 때만 연장 / 해제
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final MemberPurgeChunkService chunkService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 영구 삭제를 실행하는 메서드
+     *
+     * @return 이번 실행에서 삭제한 회원 수 (다른 서버가 실행 중이면 -1)
+     */
+    public long purge() {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("다른 서버에서 탈퇴 회원 영구 삭제가 실행 중입니다.");
+            return -1;
+        }
+
+        try {
+            MemberPurgeProgress progress = chunkService.begin(LocalDateTime.now().minusDays(RETENTION_DAYS));
+            log.info("탈퇴 회원 영구 삭제 시작: cutoff={}, lastMemberId={}", progress.getCutoff(), progress.getLastMemberId());
+
+            long total = 0;
+            int purged;
+            while ((purged = chunkService.purgeChunk(CHUNK_SIZE)) > 0) {
+                total += purged;
+                if (!extendLock(owner)) {
+                    log.warn("탈퇴 회원 영구 삭제 락을 잃어 중단합니다. 다음 실행에서 이어서 진행합니다.");
+                    return total;
+                }
+            }
+
+            log.info("탈퇴 회원 영구 삭제 완료: {}명", total);
+            return total;
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    private boolean extendLock(String owner) {
+        Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(LOCK_KEY), owner, String.valueOf(LOCK_TTL.toMillis()));
+        return result != null && result == 1L;
+    }
+}
@@ -1,10 +1,14 @@
 package com.tripfriend.domain.member.member.service;
 
 import com.tripfriend.domain.member.member.dto.JoinRequestDto;
+import com.tripfriend.domain.member.member.dto.MemberIdentifierType;
+import com.tripfriend.domain.member.member.dto.MemberPageResponseDto;
 import com.tripfriend.domain.member.member.dto.MemberResponseDto;
+import com.tripfriend.domain.member.member.dto.MemberSearchCondition;
 import com.tripfriend.domain.member.member.dto.MemberUpdateRequestDto;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.global.exception.ServiceException;
 import com.tripfriend.global.util.ImageUtil;
 import jakarta.mail.MessagingException;
 import jakarta.persistence.EntityNotFoundException;
@@ -22,24 +26,28 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final MemberRepository memberRepository;
     private final AuthService authService;
     private final MailService mailService;
     private final ImageUtil imageUtil;
     private final PasswordEncoder passwordEncoder;
+    private final MemberPurgeService memberPurgeService;
+    private final MemberAvailabilityService memberAvailabilityService;
 
     @Transactional
     public MemberResponseDto join(JoinRequestDto joinRequestDto) throws MessagingException {
 
         String email = joinRequestDto.getEmail();
 
-        // 중복 검사
+        // 중복 검사 (가입 / 수정은 블룸 필터를 거치지 않고 항상 DB 로 확인)
         if (memberRepository.existsByUsername(joinRequestDto.getUsername())) {
             throw new RuntimeException("이미 사용 중인 아이디입니다.");
         }
@@ -58,6 +66,10 @@ public class MemberService {
         member.setPassword(encryptedPassword);
         Member savedMember = memberRepository.save(member);
 
+        // 중복 확인 필터에 반영 (커밋 후)
+        memberAvailabilityService.register(MemberIdentifierType.USERNAME, savedMember.getUsername());
+        memberAvailabilityService.register(MemberIdentifierType.NICKNAME, savedMember.getNickname());
+
         return MemberResponseDto.fromEntity(savedMember);
     }
 
@@ -81,6 +93,7 @@ public class MemberService {
                 throw new RuntimeException("이미 사용 중인 닉네임입니다.");
             }
             member.setNickname(memberUpdateRequestDto.getNickname());
+            memberAvailabilityService.register(MemberIdentifierType.NICKNAME, memberUpdateRequestDto.getNickname());
         }
 
         // 비밀번호 변경 (값이 있는 경우만)
@@ -151,21 +164,35 @@ public class MemberService {
 
         return MemberResponseDto.fromEntity(member);
     }
-    //회원 조회
+    // 관리자 회원 목록 조회 (필터 + 키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    public MemberPageResponseDto getMembers(MemberSearchCondition condition) {
+        int size = condition.getSize() == null ? DEFAULT_PAGE_SIZE : condition.getSize();
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ServiceException("400-1", "페이지 크기는 1 ~ %d 사이여야 합니다.".formatted(MAX_PAGE_SIZE));
+        }
 
-    public List<MemberResponseDto> getAllMembers() {
-        List<Member> members = memberRepository.findAll();
-        return members.stream()
-                .map(MemberResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        // 한 명 더 읽어서 다음 페이지 존재 여부 판단
+        List<MemberResponseDto> members = memberRepository.findMembers(condition, size + 1);
+        boolean hasNext = members.size() > size;
+        if (hasNext) {
+            members = members.subList(0, size);
+        }
+        Long nextCursor = hasNext ? members.get(members.size() - 1).getId() : null;
+
+        return new MemberPageResponseDto(members, nextCursor, hasNext);
     }
 
     @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
     public void purgeExpiredDeletedMembers() {
 
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-        List<Member> expiredMembers = memberRepository.findByDeletedTrueAndDeletedAtBefore(cutoffDate);
-        memberRepository.deleteAll(expiredMembers); // 실제 DB에서 삭제
+        // 청크 단위로 의존 데이터까지 일괄 삭제 (한 서버에서만 실행, 중단 시 다음 실행에서 이어서 처리)
+        long purged = memberPurgeService.purge();
+
+        // 삭제된 값이 필터에 남아 있어도 DB 확인으로 넘어갈 뿐이지만, 오탐을 줄이기 위해 다시 만든다
+        if (purged > 0) {
+            memberAvailabilityService.rebuild();
+        }
     }
 
     public boolean isSoftDeleted(Long memberId) {
@@ -1,16 +1,20 @@
 package com.tripfriend.domain.notice.controller;
 
 import com.tripfriend.domain.notice.dto.Dto;
+import com.tripfriend.domain.notice.dto.NoticeResponse;
 
 import com.tripfriend.domain.notice.entity.Notice;
 import com.tripfriend.domain.notice.repository.NoticeRepository;
 import com.tripfriend.domain.notice.service.NoticeService;
 import com.tripfriend.global.annotation.CheckPermission;
+import com.tripfriend.global.dto.PageResponseDto;
+import com.tripfriend.global.version.ContentVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +25,7 @@ import java.util.List;
 public class NoticeController {
     private final NoticeRepository noticeRepository;
     private final NoticeService noticeService;
+    private final ContentVersionService contentVersionService;
 
     //공지사항 생성
     @Operation(summary = "공지사항 생성", description = "관리자가 공지사항을 등록합니다.")
@@ -42,8 +47,19 @@ public class NoticeController {
     //공지사항 전체 조회
     @Operation(summary = "공지사항 전체 조회", description = "모든 사용자가 볼 수 있는 공지사항 목록을 조회합니다.")
     @GetMapping("/notice")
-    public ResponseEntity<List<Notice>> getAllNotices() {
-        return ResponseEntity.ok(noticeRepository.findAll());
+    public ResponseEntity<List<NoticeResponse>> getAllNotices() {
+        return ResponseEntity.ok(noticeService.getAllNotices());
+    }
+
+    //공지사항 페이지 조회 (ETag / Last-Modified 로 재검증, 변경 없으면 304)
+    @Operation(summary = "공지사항 페이지 조회", description = "공지사항을 최신순으로 페이지 단위 조회합니다.")
+    @GetMapping("/notice/list")
+    public ResponseEntity<PageResponseDto<Notice>> getNoticePage(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            WebRequest webRequest) {
+        return contentVersionService.conditional(ContentVersionService.NOTICE, "p" + page + "-s" + size, webRequest,
+                () -> noticeService.getNoticePage(page, size));
     }
 
     // 공지사항 검색 조회
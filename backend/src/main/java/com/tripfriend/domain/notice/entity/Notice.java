@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_notice_created_at", columnList = "createdAt, id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
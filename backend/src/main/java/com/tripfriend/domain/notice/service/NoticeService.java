@@ -1,9 +1,18 @@
 package com.tripfriend.domain.notice.service;
 
+import com.tripfriend.domain.notice.dto.NoticeResponse;
 import com.tripfriend.domain.notice.entity.Notice;
 import com.tripfriend.domain.notice.repository.NoticeRepository;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
+import com.tripfriend.global.dto.PageResponseDto;
+import com.tripfriend.global.version.ContentVersionService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -11,20 +20,38 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class NoticeService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NoticeRepository noticeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersionService contentVersionService;
 
     //공지사항 저장
+    @Transactional
     public Notice createNotice(String title, String content) {
         Notice notice = Notice.builder()
                 .title(title)
                 .content(content)
                 .build();
-        return noticeRepository.save(notice);
+        Notice saved = noticeRepository.save(notice);
+        contentVersionService.bump(ContentVersionService.NOTICE);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.NOTICES));
+        return saved;
     }
 
-    //공지사항 전체 조회
-    public List<Notice> getAllNotices() {
-        return noticeRepository.findAll();
+    //공지사항 전체 조회 (홈 화면용 캐시)
+    @Cacheable(cacheNames = CacheNames.NOTICES, key = "'all'", sync = true)
+    public List<NoticeResponse> getAllNotices() {
+        return noticeRepository.findAll().stream()
+                .map(NoticeResponse::from)
+                .toList();
+    }
+
+    //공지사항 페이지 조회 (최신순)
+    public PageResponseDto<Notice> getNoticePage(int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        return PageResponseDto.of(noticeRepository.findAll(pageRequest));
     }
 
     //공지사항 검색
@@ -38,15 +65,20 @@ public class NoticeService {
     public Notice updateNoticeById(Long id, String title, String content) {
         Notice notice = getNoticeById(id);
         notice.update(title,content);
+        contentVersionService.bump(ContentVersionService.NOTICE);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.NOTICES));
         return notice;
 
     }
 
 
     //공지사항 삭제
+    @Transactional
     public void deleteNotice(Long id){
         Notice notice = getNoticeById(id);
         noticeRepository.deleteById(id);
+        contentVersionService.bump(ContentVersionService.NOTICE);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.NOTICES));
 
     }
 
@@ -3,6 +3,7 @@ package com.tripfriend.domain.place.place.controller;
 import com.tripfriend.domain.place.place.dto.PlaceCreateReqDto;
 import com.tripfriend.domain.place.place.dto.PlaceResDto;
 import com.tripfriend.domain.place.place.dto.PlaceUpdateReqDto;
+import com.tripfriend.domain.place.place.entity.Category;
 import com.tripfriend.domain.place.place.entity.Place;
 import com.tripfriend.domain.place.place.service.PlaceService;
 import com.tripfriend.global.annotation.CheckPermission;
@@ -44,14 +45,16 @@ public class PlaceController {
     // 전체 여행지 조회
     @GetMapping
     @Operation(summary = "전체 여행지 조회", description = "모든 여행지를 조회합니다.")
-    public RsData<List<PlaceResDto>> getAllPlaces(@RequestParam(required = false) String cityName) {
-        List<Place> places;
+    public RsData<List<PlaceResDto>> getAllPlaces(@RequestParam(required = false) String cityName,
+                                                  @RequestParam(required = false) Category category) {
+        List<PlaceResDto> placeResDtos;
         if (cityName != null && !cityName.isEmpty()) {
-            places = placeService.getPlacesByCity(cityName);
+            placeResDtos = placeService.getPlacesByCity(cityName);
+        } else if (category != null) {
+            placeResDtos = placeService.getPlacesByCategory(category);
         } else {
-            places = placeService.getAllPlaces();
+            placeResDtos = placeService.getAllPlaces();
         }
-        List<PlaceResDto> placeResDtos = places.stream().map(PlaceResDto::new).toList();
         return new RsData<>(
                 "200-2",
                 "전체 여행지가 성공적으로 조회되었습니다.",
@@ -62,8 +65,7 @@ public class PlaceController {
     @GetMapping("/{id}")
     @Operation(summary = "특정 여행지 조회", description = "특정 여행지를 조회합니다.")
     public RsData<PlaceResDto> getPlace(@PathVariable Long id) {
-        Place place = placeService.getPlace(id);
-        PlaceResDto placeResDto = new PlaceResDto(place);
+        PlaceResDto placeResDto = placeService.getPlace(id);
 
         return new RsData<>(
                 "200-3",
@@ -90,8 +92,7 @@ public class PlaceController {
     public RsData<List<PlaceResDto>> searchPlace(
             @RequestParam(required = false) String cityName,
             @RequestParam(required = false) String placeName) {
-        List<Place> places = placeService.searchPlace(placeName, cityName);
-        List<PlaceResDto> placeResDtos = places.stream().map(PlaceResDto::new).toList();
+        List<PlaceResDto> placeResDtos = placeService.searchPlace(placeName, cityName);
         return new RsData<>(
                 "200-6",
                 "여행지 검색 성공",
@@ -99,14 +100,27 @@ public class PlaceController {
         );
     }
 
+    // 여행지 자동완성
+    @GetMapping("/autocomplete")
+    @Operation(summary = "여행지 자동완성", description = "장소명 또는 도시명에 키워드가 포함된 여행지를 후기 수가 많은 순으로 반환합니다. 초성(ㅅㅇ)으로도 검색할 수 있습니다.")
+    public RsData<List<PlaceResDto>> autocomplete(
+            @Parameter(description = "검색어", example = "서울") @RequestParam String keyword,
+            @Parameter(description = "최대 개수", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        List<PlaceResDto> placeResDtos = placeService.autocomplete(keyword, limit);
+        return new RsData<>(
+                "200-8",
+                "여행지 자동완성 성공",
+                placeResDtos
+        );
+    }
+
     // 특정 여행지 삭제
     @DeleteMapping("/{id}")
     @CheckPermission("ADMIN") //관리자
     @Operation(summary = "여행지 삭제", description = "특정 여행지를 삭제합니다.")
     public RsData<Void> deletePlace(@Parameter(description = "여행지 ID", required = true, example = "1")
                                     @PathVariable Long id) {
-        Place place = placeService.getPlace(id);
-        placeService.deletePlace(place);
+        placeService.deletePlace(id);
         return new RsData<>(
                 "200-4",
                 "여행지가 성공적으로 삭제되었습니다."
@@ -119,7 +133,7 @@ public class PlaceController {
     public RsData<PlaceResDto> updatePlace(@Parameter(description = "여행지 ID", required = true, example = "1")
                                            @PathVariable Long id,
                                            @RequestBody PlaceUpdateReqDto placeUpdateReqDto) {
-        Place place = placeService.getPlace(id);
+        Place place = placeService.getPlaceEntity(id);
         Place updatePlace = placeService.updatePlace(place, placeUpdateReqDto);
         PlaceResDto placeResDto = new PlaceResDto(updatePlace);
         return new RsData<>(
@@ -1,8 +1,11 @@
 package com.tripfriend.domain.place.place.repository;
 
+import com.tripfriend.domain.place.place.dto.PlaceResDto;
 import com.tripfriend.domain.place.place.entity.Place;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +13,16 @@ import java.util.List;
 @Repository
 public interface PlaceRepository extends JpaRepository<Place, Long> {
 
+    // 목록용 DTO 프로젝션 조회 (연관 컬렉션은 읽지 않음)
+    @Query("SELECT new com.tripfriend.domain.place.place.dto.PlaceResDto(p.id, p.cityName, p.placeName, p.description, p.category, p.imageUrl) " +
+            "FROM Place p ORDER BY p.id")
+    List<PlaceResDto> findAllPlaceResDtos();
+
+    // 연관 엔티티를 읽지 않고 여행지만 삭제 (의존 데이터는 먼저 일괄 삭제해야 함)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Place p WHERE p.id = :placeId")
+    int deleteByIdInBulk(@Param("placeId") Long placeId);
+
     // 도시별로 장소 목록 조회
     List<Place> findByCityName(String cityName);
 
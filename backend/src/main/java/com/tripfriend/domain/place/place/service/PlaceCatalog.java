@@ -0,0 +1,87 @@
+package com.tripfriend.domain.place.place.service;
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto;
+import com.tripfriend.domain.place.place.entity.Category;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 여행지 카탈로그 스냅샷
+ * 생성 후에는 변경되지 않으며, 여행지가 바뀌면 새 스냅샷을 만들어 통째로 교체한다.
+ */
+public final class PlaceCatalog {
+
+    private final List<PlaceResDto> places;                        // id 순 전체 목록
+    private final Map<Long, PlaceResDto> byId;                      // id -> 여행지
+    private final Map<String, List<PlaceResDto>> byCity;            // 도시명 -> 여행지 목록
+    private final Map<Category, List<PlaceResDto>> byCategory;      // 카테고리 -> 여행지 목록
+    private final List<String> cities;                              // 중복 제거된 도시 목록
+    private final PlaceSearchIndex searchIndex;                     // 장소명 / 도시명 검색 인덱스
+
+    private PlaceCatalog(List<PlaceResDto> places, Map<Long, Long> reviewCounts) {
+        this.places = List.copyOf(places);
+        this.byId = this.places.stream()
+                .collect(Collectors.toUnmodifiableMap(PlaceResDto::getId, place -> place));
+        this.byCity = freeze(this.places.stream()
+                .collect(Collectors.groupingBy(PlaceResDto::getCityName, LinkedHashMap::new, Collectors.toList())));
+        this.byCategory = freeze(this.places.stream()
+                .collect(Collectors.groupingBy(PlaceResDto::getCategory,
+                        () -> new EnumMap<>(Category.class), Collectors.toList())));
+        this.cities = List.copyOf(this.byCity.keySet());
+        this.searchIndex = PlaceSearchIndex.of(this.places, reviewCounts);
+    }
+
+    /**
+     * @param places       전체 여행지
+     * @param reviewCounts 여행지 ID 별 후기 수 (검색 결과 인기순 정렬용)
+     */
+    public static PlaceCatalog of(List<PlaceResDto> places, Map<Long, Long> reviewCounts) {
+        return new PlaceCatalog(places, reviewCounts);
+    }
+
+    public List<PlaceResDto> getPlaces() {
+        return places;
+    }
+
+    public Optional<PlaceResDto> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<PlaceResDto> findByCity(String cityName) {
+        return byCity.getOrDefault(cityName, List.of());
+    }
+
+    public List<PlaceResDto> findByCategory(Category category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    public List<String> getCities() {
+        return cities;
+    }
+
+    // 장소명 또는 도시명 자동완성 (인기순 상위 limit 개)
+    public List<PlaceResDto> autocomplete(String keyword, int limit) {
+        return searchIndex.autocomplete(keyword, limit);
+    }
+
+    // 장소명, 도시명 부분 일치 검색 (인기순)
+    public List<PlaceResDto> search(String placeName, String cityName) {
+        return searchIndex.search(placeName, cityName);
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    // 값 목록까지 읽기 전용으로 변환 (키 순서 유지)
+    private static <K> Map<K, List<PlaceResDto>> freeze(Map<K, List<PlaceResDto>> index) {
+        index.replaceAll((key, value) -> List.copyOf(value));
+        return Collections.unmodifiableMap(index);
+    }
+}
@@ -0,0 +1,133 @@
+package com.tripfriend.domain.place.place.service;
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto;
+import com.tripfriend.domain.place.place.repository.PlaceRepository;
+import com.tripfriend.domain.review.repository.ReviewRepository;
+import com.tripfriend.global.init.InitDataSeededEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 여행지 카탈로그를 메모리에 들고 있는 서비스
+ * 조회는 현재 스냅샷만 읽고(SQL 없음), 여행지 변경 시 커밋 후 새 스냅샷으로 교체한 뒤
+ * Redis 채널로 다른 서버에도 다시 읽도록 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceCatalogService implements MessageListener {
+
+    static final String CHANNEL = "place:catalog";
+
+    private final PlaceRepository placeRepository;
+    private final ReviewRepository reviewRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString(); // 자기 자신이 보낸 알림 구분용
+    private volatile PlaceCatalog catalog;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 서버 시작 시 미리 적재
+    @EventListener({ApplicationReadyEvent.class, InitDataSeededEvent.class}) // 시작 시, 준비 후 시드가 끝났을 때
+    public void warmUp() {
+        reload();
+    }
+
+    // 검색 인기순(후기 수)이 너무 오래되지 않도록 주기적으로 다시 적재 (서버별로 수행)
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void refreshPopularity() {
+        reload();
+    }
+
+    /**
+     * 현재 스냅샷을 반환하는 메서드 (아직 적재 전이면 DB 에서 한 번 읽는다)
+     *
+     * @return 여행지 카탈로그 스냅샷
+     */
+    public PlaceCatalog getCatalog() {
+        PlaceCatalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = load();
+                    catalog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 여행지가 변경됐음을 알리는 메서드
+     * 트랜잭션 안이면 커밋 후에 스냅샷을 교체해 롤백된 변경이 보이지 않게 한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAndPublish();
+                }
+            });
+        } else {
+            reloadAndPublish();
+        }
+    }
+
+    // 다른 서버에서 여행지가 변경된 경우
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!instanceId.equals(sender)) {
+            reload();
+        }
+    }
+
+    private void reloadAndPublish() {
+        reload();
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId);
+        } catch (Exception e) {
+            log.warn("여행지 카탈로그 변경 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void reload() {
+        catalog = load();
+        log.debug("여행지 카탈로그 갱신: {}건", catalog.size());
+    }
+
+    private PlaceCatalog load() {
+        List<PlaceResDto> places = placeRepository.findAllPlaceResDtos();
+
+        Map<Long, Long> reviewCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countGroupByPlaceId()) {
+            reviewCounts.put((Long) row[0], (Long) row[1]);
+        }
+        return PlaceCatalog.of(places, reviewCounts);
+    }
+}
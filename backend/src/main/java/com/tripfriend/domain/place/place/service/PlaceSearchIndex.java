@@ -0,0 +1,218 @@
+package com.tripfriend.domain.place.place.service;
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto;
+import com.tripfriend.global.util.HangulUtil;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 여행지 장소명 / 도시명 부분 일치 검색 인덱스 (읽기 전용)
+ * 자모로 분해한 문자열과 초성 문자열의 2-gram 역색인을 만들어 LIKE '%x%' 스캔 없이 후보를 찾는다.
+ * 문서 번호를 후기 수 내림차순으로 매겨 두었기 때문에, 역색인을 앞에서부터 읽으면 인기순 상위 결과가 먼저 나온다.
+ */
+final class PlaceSearchIndex {
+
+    private final PlaceResDto[] ranked; // 문서 번호 -> 여행지 (후기 수 많은 순)
+    private final FieldIndex placeNameIndex;
+    private final FieldIndex cityNameIndex;
+
+    private PlaceSearchIndex(List<PlaceResDto> places, Map<Long, Long> reviewCounts) {
+        this.ranked = places.stream()
+                .sorted(Comparator.<PlaceResDto>comparingLong(place -> reviewCounts.getOrDefault(place.getId(), 0L))
+                        .reversed()
+                        .thenComparing(PlaceResDto::getId))
+                .toArray(PlaceResDto[]::new);
+        this.placeNameIndex = new FieldIndex(ranked, PlaceResDto::getPlaceName);
+        this.cityNameIndex = new FieldIndex(ranked, PlaceResDto::getCityName);
+    }
+
+    static PlaceSearchIndex of(List<PlaceResDto> places, Map<Long, Long> reviewCounts) {
+        return new PlaceSearchIndex(places, reviewCounts);
+    }
+
+    /**
+     * 장소명 또는 도시명에 키워드가 포함된 여행지를 인기순으로 limit 개까지 반환한다.
+     */
+    List<PlaceResDto> autocomplete(String keyword, int limit) {
+        int[] byPlaceName = placeNameIndex.search(keyword, limit);
+        int[] byCityName = cityNameIndex.search(keyword, limit);
+        return toPlaces(union(byPlaceName, byCityName, limit));
+    }
+
+    /**
+     * 장소명, 도시명 조건에 모두 맞는 여행지를 인기순으로 반환한다. (빈 조건은 무시)
+     */
+    List<PlaceResDto> search(String placeName, String cityName) {
+        int[] result = null;
+        if (placeName != null && !placeName.isBlank()) {
+            result = placeNameIndex.search(placeName, Integer.MAX_VALUE);
+        }
+        if (cityName != null && !cityName.isBlank()) {
+            int[] byCityName = cityNameIndex.search(cityName, Integer.MAX_VALUE);
+            result = result == null ? byCityName : intersect(result, byCityName);
+        }
+        return result == null ? List.of() : toPlaces(result);
+    }
+
+    private List<PlaceResDto> toPlaces(int[] docs) {
+        return Arrays.stream(docs).mapToObj(doc -> ranked[doc]).toList();
+    }
+
+    // 정렬된 두 문서 번호 배열의 합집합 (최대 limit 개)
+    private static int[] union(int[] a, int[] b, int limit) {
+        int[] result = new int[Math.min(limit, a.length + b.length)];
+        int i = 0, j = 0, size = 0;
+        while (size < result.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            result[size++] = next;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 정렬된 두 문서 번호 배열의 교집합
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 필드 하나에 대한 자모 / 초성 2-gram 역색인
+    private static final class FieldIndex {
+
+        private final String[] jamo;
+        private final String[] chosung;
+        private final Map<Integer, int[]> jamoGrams;
+        private final Map<Integer, int[]> chosungGrams;
+
+        private FieldIndex(PlaceResDto[] docs, Function<PlaceResDto, String> field) {
+            this.jamo = new String[docs.length];
+            this.chosung = new String[docs.length];
+            for (int doc = 0; doc < docs.length; doc++) {
+                String value = field.apply(docs[doc]);
+                jamo[doc] = value == null ? "" : HangulUtil.toJamo(value);
+                chosung[doc] = value == null ? "" : HangulUtil.toChosung(value);
+            }
+            this.jamoGrams = buildPostings(jamo);
+            this.chosungGrams = buildPostings(chosung);
+        }
+
+        /**
+         * 키워드를 포함하는 문서 번호를 오름차순(인기순)으로 최대 limit 개 반환한다.
+         * 자음만 입력하면 초성 검색, 그 외에는 자모 단위 부분 일치 검색을 한다.
+         */
+        private int[] search(String keyword, int limit) {
+            boolean chosungOnly = HangulUtil.isChosungOnly(keyword);
+            String query = chosungOnly ? HangulUtil.toChosung(keyword) : HangulUtil.toJamo(keyword);
+            String[] texts = chosungOnly ? chosung : jamo;
+            Map<Integer, int[]> grams = chosungOnly ? chosungGrams : jamoGrams;
+
+            if (query.isEmpty() || limit <= 0) {
+                return new int[0];
+            }
+
+            // 한 글자는 2-gram 이 없으므로 인기순으로 훑다가 limit 개 채우면 멈춘다
+            if (query.length() == 1) {
+                int[] result = new int[Math.min(limit, texts.length)];
+                int size = 0;
+                for (int doc = 0; doc < texts.length && size < result.length; doc++) {
+                    if (texts[doc].indexOf(query.charAt(0)) >= 0) {
+                        result[size++] = doc;
+                    }
+                }
+                return Arrays.copyOf(result, size);
+            }
+
+            // 질의의 모든 2-gram 역색인을 짧은 순으로 교차
+            int[][] postings = new int[query.length() - 1][];
+            for (int i = 0; i < postings.length; i++) {
+                postings[i] = grams.get(gram(query.charAt(i), query.charAt(i + 1)));
+                if (postings[i] == null) {
+                    return new int[0];
+                }
+            }
+            Arrays.sort(postings, Comparator.comparingInt(posting -> posting.length));
+
+            int[] shortest = postings[0];
+            int[] result = new int[Math.min(limit, shortest.length)];
+            int size = 0;
+            for (int k = 0; k < shortest.length && size < result.length; k++) {
+                int doc = shortest[k];
+                if (containsAll(postings, doc) && texts[doc].contains(query)) {
+                    result[size++] = doc;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static boolean containsAll(int[][] postings, int doc) {
+            for (int i = 1; i < postings.length; i++) {
+                if (Arrays.binarySearch(postings[i], doc) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 2-gram -> 문서 번호 오름차순 배열 (개수를 먼저 세고 채우는 두 단계)
+        private static Map<Integer, int[]> buildPostings(String[] texts) {
+            Map<Integer, int[]> counts = new HashMap<>(); // gram -> {문서 수, 마지막 문서 번호}
+            for (int doc = 0; doc < texts.length; doc++) {
+                String text = texts[doc];
+                for (int i = 0; i + 1 < text.length(); i++) {
+                    int[] count = counts.computeIfAbsent(gram(text.charAt(i), text.charAt(i + 1)), key -> new int[]{0, -1});
+                    if (count[1] != doc) {
+                        count[0]++;
+                        count[1] = doc;
+                    }
+                }
+            }
+
+            Map<Integer, int[]> postings = new HashMap<>(counts.size() * 2);
+            counts.forEach((gram, count) -> {
+                postings.put(gram, new int[count[0]]);
+                count[0] = 0; // 이후로는 채울 위치로 사용
+                count[1] = -1;
+            });
+            for (int doc = 0; doc < texts.length; doc++) {
+                String text = texts[doc];
+                for (int i = 0; i + 1 < text.length(); i++) {
+                    int gram = gram(text.charAt(i), text.charAt(i + 1));
+                    int[] count = counts.get(gram);
+                    if (count[1] != doc) {
+                        postings.get(gram)[count[0]++] = doc;
+                        count[1] = doc;
+                    }
+                }
+            }
+            return Map.copyOf(postings);
+        }
+
+        private static int gram(char first, char second) {
+            return (first << 16) | second;
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package com.tripfriend.domain.place.place.service;
 
 import com.tripfriend.domain.place.place.dto.PlaceCreateReqDto;
+import com.tripfriend.domain.place.place.dto.PlaceResDto;
 import com.tripfriend.domain.place.place.dto.PlaceUpdateReqDto;
+import com.tripfriend.domain.place.place.entity.Category;
 import com.tripfriend.domain.place.place.entity.Place;
 import com.tripfriend.domain.place.place.repository.PlaceRepository;
+import com.tripfriend.domain.recruit.apply.repository.ApplyRepository;
+import com.tripfriend.domain.recruit.recruit.event.RecruitClosedEvent;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.domain.review.repository.CommentRepository;
+import com.tripfriend.domain.review.repository.ReviewRepository;
+import com.tripfriend.domain.review.repository.ReviewViewCountRepository;
+import com.tripfriend.domain.trip.budget.service.TripBudgetService;
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository;
 import com.tripfriend.global.annotation.CheckPermission;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
 import com.tripfriend.global.exception.ServiceException;
 import com.tripfriend.global.util.ImageUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,8 +32,20 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class PlaceService {
+
+    private static final int MAX_AUTOCOMPLETE_SIZE = 50;
+
     private final PlaceRepository placeRepository;
     private final ImageUtil imageUtil;
+    private final TripInformationRepository tripInformationRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommentRepository commentRepository;
+    private final ReviewViewCountRepository reviewViewCountRepository;
+    private final RecruitRepository recruitRepository;
+    private final ApplyRepository applyRepository;
+    private final TripBudgetService tripBudgetService;
+    private final PlaceCatalogService placeCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 여행 장소 등록
     @Transactional
@@ -45,36 +70,73 @@ public class PlaceService {
                 .imageUrl(imageUrl)
                 .build();
         placeRepository.save(place);
+        placeCatalogService.invalidate();
         return place;
     }
 
-    // 여행 장소 전체 리스트 조회
-    public List<Place> getAllPlaces() {
-        List<Place> places = placeRepository.findAll();
-        return places;
+    // 여행 장소 전체 리스트 조회 (메모리 카탈로그)
+    public List<PlaceResDto> getAllPlaces() {
+        return placeCatalogService.getCatalog().getPlaces();
+    }
+
+    // 특정 도시의 여행 장소 리스트 조회 (메모리 카탈로그)
+    public List<PlaceResDto> getPlacesByCity(String cityName) {
+        return placeCatalogService.getCatalog().findByCity(cityName);
     }
 
-    // 특정 도시의 여행 장소 리스트 조회
-    public List<Place> getPlacesByCity(String cityName) {
-        return placeRepository.findByCityName(cityName);
+    // 특정 카테고리의 여행 장소 리스트 조회 (메모리 카탈로그)
+    public List<PlaceResDto> getPlacesByCategory(Category category) {
+        return placeCatalogService.getCatalog().findByCategory(category);
     }
 
-    // 도시 목록 중복 제거
+    // 도시 목록 중복 제거 (메모리 카탈로그)
     public List<String> getDistinctCities() {
-        return placeRepository.findDistinctCityNames();
+        return placeCatalogService.getCatalog().getCities();
+    }
+
+    // 여행 장소 단건 조회 (메모리 카탈로그)
+    public PlaceResDto getPlace(Long id) {
+        return placeCatalogService.getCatalog().findById(id)
+                .orElseThrow(() -> new ServiceException("404-1", "해당 장소가 존재하지 않습니다."));
     }
 
-    // 여행 장소 단건 조회
-    public Place getPlace(Long id) {
+    // 수정용 여행 장소 엔티티 조회
+    public Place getPlaceEntity(Long id) {
         return placeRepository.findById(id)
                 .orElseThrow(() -> new ServiceException("404-1", "해당 장소가 존재하지 않습니다."));
     }
 
-    // 여행 장소 삭제
+    /**
+     * 여행 장소를 삭제하는 메서드
+     * 리뷰, 동행 모집글, 세부 일정 등 의존 데이터를 엔티티로 읽지 않고 DELETE 문으로 일괄 삭제한다.
+     * (FK 순서: 댓글/조회수 -> 리뷰, 신청 -> 모집글, 세부 일정 -> 여행지)
+     *
+     * @param placeId 삭제할 여행 장소 ID
+     * @throws ServiceException 여행 장소가 없는 경우 예외 발생
+     */
     @CheckPermission("ADMIN")
     @Transactional
-    public void deletePlace(Place place) {
-        placeRepository.delete(place);
+    public void deletePlace(Long placeId) {
+        if (!placeRepository.existsById(placeId)) {
+            throw new ServiceException("404-1", "해당 장소가 존재하지 않습니다.");
+        }
+
+        // 장소와 함께 삭제되는 세부 일정이 있는 일정은 예산 집계를 다시 계산
+        List<Long> affectedScheduleIds = tripInformationRepository.findDistinctTripScheduleIdsByPlaceId(placeId);
+        List<Long> deletedRecruitIds = recruitRepository.findIdsByPlaceId(placeId);
+
+        commentRepository.deleteByReviewPlaceId(placeId);
+        reviewViewCountRepository.deleteByReviewPlaceId(placeId);
+        reviewRepository.deleteByPlaceId(placeId);
+        applyRepository.deleteByRecruitPlaceId(placeId);
+        recruitRepository.deleteByPlaceId(placeId);
+        tripInformationRepository.deleteByPlaceId(placeId);
+        placeRepository.deleteByIdInBulk(placeId);
+
+        affectedScheduleIds.forEach(tripBudgetService::rebuild);
+        placeCatalogService.invalidate();
+        eventPublisher.publishEvent(new RecruitClosedEvent(deletedRecruitIds)); // 커밋 후 추천 후보에서 제거
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS, CacheNames.POPULAR_REVIEWS));
     }
 
     // 여행 장소 수정
@@ -85,26 +147,33 @@ public class PlaceService {
         place.setDescription(req.getDescription());
         place.setCategory(req.getCategory());
 
-        return placeRepository.save(place);
+        Place updated = placeRepository.save(place);
+        placeCatalogService.invalidate();
+        return updated;
     }
 
-    public List<Place> searchPlace(String name, String city) {
+    public List<PlaceResDto> searchPlace(String name, String city) {
+        boolean hasName = name != null && !name.isEmpty();
+        boolean hasCity = city != null && !city.isEmpty();
 
-        // 두 파라미터 모두 제공된 경우
-        if (name != null && !name.isEmpty() && city != null && !city.isEmpty()) {
-            return placeRepository.findByPlaceNameContainingIgnoreCaseAndCityNameContainingIgnoreCase(name, city);
+        // 둘 다 없으면 빈 리스트 반환
+        if (!hasName && !hasCity) {
+            return new ArrayList<>();
         }
-        // name만 제공된 경우
-        else if (name != null && !name.isEmpty()) {
-            return placeRepository.findByPlaceNameContainingIgnoreCase(name);
+
+        // 메모리 검색 인덱스로 부분 일치 검색 (대소문자, 공백 무시, 초성 검색 가능, 인기순)
+        return placeCatalogService.getCatalog().search(name, city);
+    }
+
+    // 장소명 / 도시명 자동완성
+    public List<PlaceResDto> autocomplete(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return new ArrayList<>();
         }
-        // city만 제공된 경우
-        else if (city != null && !city.isEmpty()) {
-            return placeRepository.findByCityNameContainingIgnoreCase(city);
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_SIZE) {
+            throw new ServiceException("400-1", "자동완성 개수는 1 ~ %d 사이여야 합니다.".formatted(MAX_AUTOCOMPLETE_SIZE));
         }
-        // 둘 다 없으면 전체 조회 또는 빈 리스트 반환
-        return new ArrayList<>();
-
+        return placeCatalogService.getCatalog().autocomplete(keyword, limit);
     }
 
     // 여행지 이미지 등록
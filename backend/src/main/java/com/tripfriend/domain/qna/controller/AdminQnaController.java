@@ -1,18 +1,17 @@
 package com.tripfriend.domain.qna.controller;
 
-import com.tripfriend.domain.qna.dto.QuestionDto;
+import com.tripfriend.domain.qna.dto.QuestionSummaryDto;
 import com.tripfriend.domain.qna.dto.QuestionWithAnswersDto;
 import com.tripfriend.domain.qna.service.AnswerService;
 import com.tripfriend.domain.qna.service.QuestionService;
 import com.tripfriend.global.annotation.CheckPermission;
+import com.tripfriend.global.dto.PageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "관리자 QnA API", description = "관리자가 QnA 질문 및 답변을 관리할 수 있는 기능을 제공합니다.")
 @RestController
 @RequiredArgsConstructor
@@ -26,9 +25,10 @@ public class AdminQnaController {
     @Operation(summary = "관리자 QnA 목록 조회", description = "사용자의 QnA 목록을 조회합니다.")
     @CheckPermission("ADMIN")
     @GetMapping("/questions")
-    public ResponseEntity<List<QuestionDto>> getAllQuestionsForAdmin() {
-        List<QuestionDto> questions = questionService.getAllQuestionsForAdmin();
-        return ResponseEntity.ok(questions);
+    public ResponseEntity<PageResponseDto<QuestionSummaryDto>> getAllQuestionsForAdmin(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(questionService.getQuestionPage(page, size));
     }
 
     // 관리자용 QnA 삭제
@@ -2,7 +2,7 @@ package com.tripfriend.domain.qna.controller;
 
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.service.AuthService;
-import com.tripfriend.domain.qna.dto.AnswerDto;
+import com.tripfriend.domain.qna.dto.AnswerPageResponseDto;
 import com.tripfriend.domain.qna.service.AnswerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Tag(name = "답변 API", description = "QnA에 대한 답변 기능을 제공합니다.")
@@ -50,10 +49,12 @@ public class AnswerController {
     }
 
     // 답변 목록 조회
-    @Operation(summary = "답변 목록 조회", description = "질문 ID에 대한 모든 답변을 조회합니다.")
+    @Operation(summary = "답변 목록 조회", description = "질문 ID에 대한 답변을 cursor(마지막 answerId) 기반으로 나눠 조회합니다.")
     @GetMapping("/{questionId}/answers")
-    public ResponseEntity<List<AnswerDto>> getAnswers(@PathVariable("questionId") Long questionId) {
-        return ResponseEntity.ok(answerService.getAnswersByQuestionId(questionId));
+    public ResponseEntity<AnswerPageResponseDto> getAnswers(@PathVariable("questionId") Long questionId,
+                                                            @RequestParam(name = "cursor", required = false) Long cursor,
+                                                            @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(answerService.getAnswersByQuestionId(questionId, cursor, size));
     }
 
     //답변 삭제
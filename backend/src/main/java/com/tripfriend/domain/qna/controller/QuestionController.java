@@ -3,18 +3,17 @@ package com.tripfriend.domain.qna.controller;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.qna.dto.QuestionDto;
+import com.tripfriend.domain.qna.dto.QuestionSummaryDto;
 import com.tripfriend.domain.qna.entity.Question;
-import com.tripfriend.domain.qna.repository.QuestionRepository;
 import com.tripfriend.domain.qna.service.QuestionService;
 import com.tripfriend.global.annotation.CheckPermission;
+import com.tripfriend.global.dto.PageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/qna")
 @RequiredArgsConstructor
@@ -25,14 +24,12 @@ public class QuestionController {
 
     //전체 질문 조회
     @Tag(name = "질문 API", description = "QnA 질문 관련 기능을 제공합니다.")
-    @Operation(summary = "질문 목록 조회", description = "등록된 모든 QnA 질문 목록을 조회합니다.")
+    @Operation(summary = "질문 목록 조회", description = "QnA 질문 목록을 최신순으로 페이지 단위 조회합니다. (답변 수 포함)")
     @GetMapping
-    public ResponseEntity<List<QuestionDto>> getAllQuestions() {
-        List<Question> questions = questionService.getAllQuestions();
-        List<QuestionDto> responseDtos = questions.stream()
-                .map(QuestionDto::new)
-                .toList();
-        return ResponseEntity.ok(responseDtos);
+    public ResponseEntity<PageResponseDto<QuestionSummaryDto>> getAllQuestions(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(questionService.getQuestionPage(page, size));
     }
 
 
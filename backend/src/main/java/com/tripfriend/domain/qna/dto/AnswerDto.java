@@ -1,10 +1,11 @@
 package com.tripfriend.domain.qna.dto;
 
-import com.tripfriend.domain.qna.entity.Answer;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,10 +15,11 @@ public class AnswerDto {
     private String memberUsername;
     private String createdAt;
 
-    public AnswerDto(Answer answer) {
-        this.answerId = answer.getId();
-        this.content = answer.getContent();
-        this.memberUsername = answer.getMember().getUsername();
-        this.createdAt = answer.getCreatedAt().toString();
+    // JPQL 생성자 조회용
+    public AnswerDto(Long answerId, String content, String memberUsername, LocalDateTime createdAt) {
+        this.answerId = answerId;
+        this.content = content;
+        this.memberUsername = memberUsername;
+        this.createdAt = createdAt.toString();
     }
 }
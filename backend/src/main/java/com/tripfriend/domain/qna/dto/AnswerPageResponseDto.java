@@ -0,0 +1,15 @@
+package com.tripfriend.domain.qna.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AnswerPageResponseDto {
+
+    private List<AnswerDto> answers;
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,27 @@
+package com.tripfriend.domain.qna.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 질문 목록용 (본문 제외, 답변 수 포함)
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuestionSummaryDto {
+    private Long id;
+    private String title;
+    private String createdAt;
+    private String memberUsername;
+    private long answerCount;
+
+    // JPQL 생성자 조회용
+    public QuestionSummaryDto(Long id, String title, String memberUsername, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.memberUsername = memberUsername;
+        this.createdAt = createdAt.toString();
+    }
+}
@@ -1,13 +1,11 @@
 package com.tripfriend.domain.qna.dto;
 
-import com.tripfriend.domain.qna.entity.Answer;
 import com.tripfriend.domain.qna.entity.Question;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -21,17 +19,19 @@ public class QuestionWithAnswersDto {
     private String updatedAt;
     private String memberUsername;
     private List<AnswerDto> answers;
+    private Long answerNextCursor; // 나머지 답변은 /qna/{id}/answers?cursor= 로 조회
+    private boolean hasMoreAnswers;
 
-    public QuestionWithAnswersDto(Question question) {
+    // 답변은 첫 페이지만 담는다
+    public QuestionWithAnswersDto(Question question, AnswerPageResponseDto answerPage) {
         this.id = question.getId();
         this.title = question.getTitle();
         this.content = question.getContent();
         this.createdAt = question.getCreatedAt().toString();
         this.updatedAt = question.getUpdatedAt().toString();
         this.memberUsername = question.getMember().getUsername();
-        this.answers = question.getAnswers()
-                .stream()
-                .map(AnswerDto::new)
-                .collect(Collectors.toList());
+        this.answers = answerPage.getAnswers();
+        this.answerNextCursor = answerPage.getNextCursor();
+        this.hasMoreAnswers = answerPage.isHasNext();
     }
 }
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_answer_question_id", columnList = "question_id, id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,9 +1,32 @@
 package com.tripfriend.domain.qna.repository;
 
+import com.tripfriend.domain.qna.dto.AnswerDto;
 import com.tripfriend.domain.qna.entity.Answer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
+
+    // 질문의 답변을 작성자 정보와 함께 DTO 로 조회 (cursor 다음부터 id 순, 한 번의 쿼리)
+    @Query("SELECT new com.tripfriend.domain.qna.dto.AnswerDto(a.id, a.content, m.username, a.createdAt) " +
+            "FROM Answer a JOIN a.member m " +
+            "WHERE a.question.id = :questionId AND a.id > :cursor ORDER BY a.id")
+    List<AnswerDto> findDtosByQuestionId(@Param("questionId") Long questionId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 질문별 답변 수 [questionId, count] (질문 목록용)
+    @Query("SELECT a.question.id, COUNT(a) FROM Answer a WHERE a.question.id IN :questionIds GROUP BY a.question.id")
+    List<Object[]> countGroupByQuestionIds(@Param("questionIds") List<Long> questionIds);
+
+    // 회원 영구 삭제 시 회원의 답변과 회원 질문에 달린 답변 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Answer a WHERE a.member.id IN :memberIds " +
+            "OR a.question.id IN (SELECT q.id FROM Question q WHERE q.member.id IN :memberIds)")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
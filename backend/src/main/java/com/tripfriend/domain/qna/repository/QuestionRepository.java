@@ -1,7 +1,11 @@
 package com.tripfriend.domain.qna.repository;
 
+import com.tripfriend.domain.qna.dto.QuestionSummaryDto;
 import com.tripfriend.domain.qna.entity.Question;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,13 +16,17 @@ import java.util.Optional;
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
-    @Query("SELECT q FROM Question q JOIN FETCH q.member")
-    List<Question> findAllWithMember();
-
     @Query("SELECT q FROM Question q JOIN FETCH q.member WHERE q.id = :id")
     Optional<Question> findByIdWithMember(@Param("id") Long id);
 
-    @Query("SELECT q FROM Question q JOIN FETCH q.member LEFT JOIN FETCH q.answers WHERE q.id = :id")
-    Optional<Question> findByIdWithAnswers(@Param("id") Long id);
+    // 질문 목록 (최신순, 작성자 이름만 조인)
+    @Query(value = "SELECT new com.tripfriend.domain.qna.dto.QuestionSummaryDto(q.id, q.title, m.username, q.createdAt) " +
+            "FROM Question q JOIN q.member m ORDER BY q.id DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q")
+    Page<QuestionSummaryDto> findSummaries(Pageable pageable);
 
+    // 회원 영구 삭제 시 회원 질문 일괄 삭제 (답변을 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM Question q WHERE q.member.id IN :memberIds")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
@@ -3,12 +3,15 @@ package com.tripfriend.domain.qna.service;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
 import com.tripfriend.domain.qna.dto.AnswerDto;
+import com.tripfriend.domain.qna.dto.AnswerPageResponseDto;
 import com.tripfriend.domain.qna.entity.Answer;
 import com.tripfriend.domain.qna.entity.Question;
 import com.tripfriend.domain.qna.repository.AnswerRepository;
 import com.tripfriend.domain.qna.repository.QuestionRepository;
+import com.tripfriend.global.exception.ServiceException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,6 +19,9 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class AnswerService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final AnswerRepository answerRepository;
     // private final QuestionService questionService;
     //private final MemberService memberService;
@@ -40,14 +46,40 @@ public class AnswerService {
         answerRepository.save(answer);
 
     }
+    // 답변 목록 조회 (질문과 답변 컬렉션을 로딩하지 않는다)
     @Transactional
-    public List<AnswerDto> getAnswersByQuestionId(Long questionId) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("질문을 찾을 수 없습니다."));
+    public AnswerPageResponseDto getAnswersByQuestionId(Long questionId, Long cursor, Integer size) {
+        if (!questionRepository.existsById(questionId)) {
+            throw new IllegalArgumentException("질문을 찾을 수 없습니다.");
+        }
+        return findPage(questionId, cursor, size == null ? DEFAULT_PAGE_SIZE : size);
+    }
+
+    /**
+     * 질문의 답변을 id 순으로 cursor 다음부터 조회하는 메서드
+     * 작성자 이름까지 한 번의 쿼리로 DTO 로 읽으므로 답변 수와 관계없이 쿼리 수가 일정하다.
+     *
+     * @param questionId 질문 ID
+     * @param cursor     이전 페이지의 마지막 answerId (첫 페이지면 null)
+     * @param size       페이지 크기 (1 ~ 200)
+     * @return 답변 목록과 다음 cursor
+     */
+    @Transactional
+    public AnswerPageResponseDto findPage(Long questionId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ServiceException("400-1", "size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<AnswerDto> answers = answerRepository.findDtosByQuestionId(
+                questionId, cursor == null ? 0L : cursor, PageRequest.of(0, size + 1));
+        boolean hasNext = answers.size() > size;
+        if (hasNext) {
+            answers = answers.subList(0, size);
+        }
+        Long nextCursor = hasNext ? answers.get(answers.size() - 1).getAnswerId() : null;
 
-        return question.getAnswers().stream()
-                .map(AnswerDto::new)
-                .toList();
+        return new AnswerPageResponseDto(answers, nextCursor, hasNext);
     }
 
 
@@ -2,22 +2,32 @@ package com.tripfriend.domain.qna.service;
 
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
-import com.tripfriend.domain.qna.dto.QuestionDto;
+import com.tripfriend.domain.qna.dto.QuestionSummaryDto;
 import com.tripfriend.domain.qna.dto.QuestionWithAnswersDto;
 import com.tripfriend.domain.qna.entity.Question;
+import com.tripfriend.domain.qna.repository.AnswerRepository;
 import com.tripfriend.domain.qna.repository.QuestionRepository;
+import com.tripfriend.global.dto.PageResponseDto;
+import com.tripfriend.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class QuestionService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final QuestionRepository questionRepository;
     private final MemberRepository memberRepository;
+    private final AnswerRepository answerRepository;
+    private final AnswerService answerService;
 
     //질문 생성
     public Question createQuestion(String title, String content, Member member) {
@@ -29,9 +39,31 @@ public class QuestionService {
         return questionRepository.save(question);
     }
 
-    //전체 질문 조회
-    public List<Question> getAllQuestions() {
-        return questionRepository.findAllWithMember();
+    /**
+     * 질문 목록 페이지 조회 (최신순)
+     * 질문 페이지 1번, 해당 질문들의 답변 수 1번(GROUP BY)으로 답변 컬렉션을 로딩하지 않는다.
+     *
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDto<QuestionSummaryDto> getQuestionPage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ServiceException("400-1", "페이지 크기는 1 ~ %d 사이여야 합니다.".formatted(MAX_PAGE_SIZE));
+        }
+
+        Page<QuestionSummaryDto> questions = questionRepository.findSummaries(PageRequest.of(page, size));
+        if (questions.hasContent()) {
+            List<Long> questionIds = questions.getContent().stream()
+                    .map(QuestionSummaryDto::getId)
+                    .toList();
+            Map<Long, Long> answerCounts = new HashMap<>();
+            for (Object[] row : answerRepository.countGroupByQuestionIds(questionIds)) {
+                answerCounts.put((Long) row[0], (Long) row[1]);
+            }
+            questions.forEach(question -> question.setAnswerCount(answerCounts.getOrDefault(question.getId(), 0L)));
+        }
+        return PageResponseDto.of(questions);
     }
 
     //특정 질문 조회
@@ -52,15 +84,6 @@ public class QuestionService {
         questionRepository.delete(question);
     }
 
-    // 관리자용 전체 질문 조회
-    public List<QuestionDto> getAllQuestionsForAdmin() {
-        return questionRepository.findAllWithMember()
-                .stream()
-                .map(QuestionDto::new)
-                .collect(Collectors.toList());
-    }
-
-
     // 관리자용 질문 삭제
     @Transactional
     public void deleteQuestionByAdmin(Long id) {
@@ -69,12 +92,14 @@ public class QuestionService {
         questionRepository.delete(question);
     }
 
-    @Transactional
+    // 답변은 첫 페이지만 담는다 (나머지는 cursor 로 조회)
+    @Transactional(readOnly = true)
     public QuestionWithAnswersDto getQuestionWithAnswers(Long id) {
-        Question question = questionRepository.findByIdWithAnswers(id)
+        Question question = questionRepository.findByIdWithMember(id)
                 .orElseThrow(() -> new RuntimeException("해당 질문을 찾을 수 없습니다."));
 
-        return new QuestionWithAnswersDto(question);
+        return new QuestionWithAnswersDto(question,
+                answerService.findPage(id, null, AnswerService.DEFAULT_PAGE_SIZE));
     }
 
 
@@ -1,6 +1,7 @@
 package com.tripfriend.domain.recruit.apply.controller;
 
 import com.tripfriend.domain.recruit.apply.dto.ApplyCreateRequestDto;
+import com.tripfriend.domain.recruit.apply.dto.ApplyPageResponseDto;
 import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto;
 import com.tripfriend.domain.recruit.apply.service.ApplyService;
 import com.tripfriend.global.dto.RsData;
@@ -9,8 +10,6 @@ import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.util.List;
-
 @Tag(name = "Apply API", description = "동행모집 댓글 관련 기능을 제공합니다.")
 @RestController
 @RequiredArgsConstructor
@@ -18,10 +17,12 @@ import java.util.List;
 public class ApplyController {
     private final ApplyService applyService;
 
-    @Operation(summary = "동행모집 댓글 목록 조회", description = "동행모집 댓글 목록을 조회합니다.")
+    @Operation(summary = "동행모집 댓글 목록 조회", description = "동행모집 댓글 목록을 cursor(마지막 applyId) 기반으로 나눠 조회합니다.")
     @GetMapping
-    RsData<List<ApplyResponseDto>> getApplies(@PathVariable("recruitId") Long recruitId) {
-        return new RsData<>("200-4", "동행 요청 댓글 목록이 성공적으로 조회되었습니다.", applyService.findByRecruitId(recruitId)); // 인자 주기
+    RsData<ApplyPageResponseDto> getApplies(@PathVariable("recruitId") Long recruitId,
+                                            @RequestParam(name = "cursor", required = false) Long cursor,
+                                            @RequestParam(name = "size", required = false) Integer size) {
+        return new RsData<>("200-4", "동행 요청 댓글 목록이 성공적으로 조회되었습니다.", applyService.findByRecruitId(recruitId, cursor, size)); // 인자 주기
     }
 
     @Operation(summary = "동행모집 댓글 등록", description = "동행모집 댓글을 등록합니다.")
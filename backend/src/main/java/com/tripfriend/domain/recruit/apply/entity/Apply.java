@@ -9,7 +9,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Apply")
+@Table(name = "Apply", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_apply_recruit_member", columnNames = {"recruit_id", "member_id"}) // 모집글당 한 번만 신청 (기존 DB 는 ApplyDeduplicationService 가 보장)
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
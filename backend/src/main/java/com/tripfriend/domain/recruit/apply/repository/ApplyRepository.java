@@ -1,7 +1,12 @@
 package com.tripfriend.domain.recruit.apply.repository;
 
+import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto;
 import com.tripfriend.domain.recruit.apply.entity.Apply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +14,37 @@ import java.util.List;
 @Repository
 public interface ApplyRepository extends JpaRepository<Apply, Long> { // extends 해줘야함
     List<Apply> findByRecruitRecruitId(Long recruitId);
+
+    boolean existsByRecruitRecruitIdAndMemberId(Long recruitId, Long memberId);
+
+    // 모집글의 신청을 작성자 정보와 함께 DTO 로 조회 (cursor 다음부터 applyId 순, 한 번의 쿼리)
+    @Query("SELECT new com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto(" +
+            "a.applyId, m.id, m.profileImage, m.nickname, a.content, a.createdAt, a.updatedAt) " +
+            "FROM Apply a JOIN a.member m " +
+            "WHERE a.recruit.recruitId = :recruitId AND a.applyId > :cursor ORDER BY a.applyId")
+    List<ApplyResponseDto> findResponsesByRecruitId(@Param("recruitId") Long recruitId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 같은 회원이 같은 모집글에 한 번 더 한 신청 ID (가장 먼저 한 신청은 제외)
+    @Query(value = "SELECT a.apply_id FROM apply a WHERE EXISTS (SELECT 1 FROM apply b " +
+            "WHERE b.recruit_id = a.recruit_id AND b.member_id = a.member_id AND b.apply_id < a.apply_id)", nativeQuery = true)
+    List<Long> findDuplicateIds();
+
+    @Query("SELECT DISTINCT a.recruit.recruitId FROM Apply a WHERE a.applyId IN :applyIds")
+    List<Long> findRecruitIdsByApplyIds(@Param("applyIds") List<Long> applyIds);
+
+    // 특정 여행지 동행 모집글들의 신청 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Apply a WHERE a.recruit.recruitId IN (SELECT r.recruitId FROM Recruit r WHERE r.place.id = :placeId)")
+    int deleteByRecruitPlaceId(@Param("placeId") Long placeId);
+
+    // 회원들이 다른 회원의 모집글에 남긴 신청의 모집글 ID (영구 삭제 후 남은 자리 재계산 대상)
+    @Query("SELECT DISTINCT a.recruit.recruitId FROM Apply a " +
+            "WHERE a.member.id IN :memberIds AND a.recruit.member.id NOT IN :memberIds")
+    List<Long> findOtherRecruitIdsByMemberIds(@Param("memberIds") List<Long> memberIds);
+
+    // 회원 영구 삭제 시 회원의 신청과 회원 모집글에 달린 신청 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Apply a WHERE a.member.id IN :memberIds " +
+            "OR a.recruit.recruitId IN (SELECT r.recruitId FROM Recruit r WHERE r.member.id IN :memberIds)")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
@@ -0,0 +1,106 @@
+package com.tripfriend.domain.recruit.apply.service;
+
+import com.tripfriend.domain.recruit.apply.repository.ApplyRepository;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 신청 중복 방지 유니크 제약(uk_apply_recruit_member) 보장
+ * ddl-auto: update 는 기존 중복 신청 때문에 제약 추가에 실패해도 로그만 남기고 넘어가므로,
+ * 시작 시 중복 신청을 정리(가장 먼저 한 신청만 남김)하고 해당 모집글의 남은 자리를 다시 계산한 뒤 제약이 없으면 추가한다.
+ * 제약을 추가하지 못하면 동시 중복 신청을 막을 수 없으므로 서버 시작을 중단한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplyDeduplicationService {
+
+    static final String CONSTRAINT_NAME = "uk_apply_recruit_member";
+    private static final Set<String> CONSTRAINT_COLUMNS = Set.of("recruit_id", "member_id");
+
+    private final ApplyRepository applyRepository;
+    private final RecruitRepository recruitRepository;
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void ensureUniqueApply() {
+        int removed = new TransactionTemplate(transactionManager).execute(status -> removeDuplicates());
+        if (removed > 0) {
+            log.warn("중복 신청 {}건 정리", removed);
+        }
+
+        try {
+            if (!hasUniqueConstraint()) {
+                addUniqueConstraint();
+                log.info("신청 유니크 제약 추가: {}", CONSTRAINT_NAME);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("신청 유니크 제약(" + CONSTRAINT_NAME + ")을 확인하거나 추가하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 같은 회원의 두 번째 이후 신청을 삭제하고 해당 모집글의 남은 자리를 다시 계산하는 메서드
+     *
+     * @return 삭제한 신청 수
+     */
+    int removeDuplicates() {
+        List<Long> duplicateIds = applyRepository.findDuplicateIds();
+        if (duplicateIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> recruitIds = applyRepository.findRecruitIdsByApplyIds(duplicateIds);
+        applyRepository.deleteAllByIdInBatch(duplicateIds);
+        recruitRepository.recountSlots(recruitIds);
+        return duplicateIds.size();
+    }
+
+    // (recruit_id, member_id) 로만 이루어진 유니크 인덱스가 있는지 확인 (제약 이름은 DB 마다 다르게 보일 수 있음)
+    private boolean hasUniqueConstraint() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? "APPLY" : "apply";
+
+            Map<String, Set<String>> indexColumns = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName != null && columnName != null) {
+                        indexColumns.computeIfAbsent(indexName, key -> new HashSet<>()).add(columnName.toLowerCase());
+                    }
+                }
+            }
+            return indexColumns.containsValue(CONSTRAINT_COLUMNS);
+        }
+    }
+
+    private void addUniqueConstraint() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE apply ADD CONSTRAINT " + CONSTRAINT_NAME + " UNIQUE (recruit_id, member_id)");
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+}
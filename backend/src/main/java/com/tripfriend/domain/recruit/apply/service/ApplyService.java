@@ -4,25 +4,43 @@ import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.recruit.apply.dto.ApplyCreateRequestDto;
+import com.tripfriend.domain.recruit.apply.dto.ApplyPageResponseDto;
 import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto;
 import com.tripfriend.domain.recruit.apply.entity.Apply;
 import com.tripfriend.domain.recruit.apply.repository.ApplyRepository;
 import com.tripfriend.domain.recruit.recruit.entity.Recruit;
 import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.domain.recruit.recruit.service.RecruitRecommendationService;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
 import com.tripfriend.global.exception.ServiceException;
+import com.tripfriend.global.init.InitDataSeededEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApplyService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final ApplyRepository applyRepository;
     private final RecruitRepository recruitRepository;
     private final MemberRepository memberRepository;
     private final AuthService authService;
+    private final RecruitRecommendationService recruitRecommendationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 현재 로그인한 회원객체를 반환하는 메서드
@@ -42,21 +60,86 @@ public class ApplyService {
         return member;
     }
 
-    @Transactional
-    public List<ApplyResponseDto> findByRecruitId(Long recruitId) {
-        Recruit recruit = recruitRepository.findById(recruitId).orElseThrow(() -> new ServiceException("404-3", "해당 모집글이 존재하지 않습니다."));
-        return recruit.getApplies().stream()
-                .map(ApplyResponseDto::new)
-                .toList();
+    @Transactional(readOnly = true)
+    public ApplyPageResponseDto findByRecruitId(Long recruitId, Long cursor, Integer size) {
+        if (!recruitRepository.existsById(recruitId)) {
+            throw new ServiceException("404-3", "해당 모집글이 존재하지 않습니다.");
+        }
+        return findPage(recruitId, cursor, size == null ? DEFAULT_PAGE_SIZE : size);
+    }
+
+    /**
+     * 모집글의 신청을 applyId 순으로 cursor 다음부터 조회하는 메서드
+     * 신청자 정보까지 한 번의 쿼리로 DTO 로 읽으므로 신청 수와 관계없이 쿼리 수가 일정하다.
+     *
+     * @param recruitId 모집글 ID
+     * @param cursor    이전 페이지의 마지막 applyId (첫 페이지면 null)
+     * @param size      페이지 크기 (1 ~ 200)
+     * @return 신청 목록과 다음 cursor
+     */
+    @Transactional(readOnly = true)
+    public ApplyPageResponseDto findPage(Long recruitId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ServiceException("400-1", "size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<ApplyResponseDto> applies = applyRepository.findResponsesByRecruitId(
+                recruitId, cursor == null ? 0L : cursor, PageRequest.of(0, size + 1));
+        boolean hasNext = applies.size() > size;
+        if (hasNext) {
+            applies = applies.subList(0, size);
+        }
+        Long nextCursor = hasNext ? applies.get(applies.size() - 1).getApplyId() : null;
+
+        return new ApplyPageResponseDto(applies, nextCursor, hasNext);
+    }
+
+    // 서버 시작 시 남은 자리 수가 비어 있는 기존 모집글을 현재 신청 수 기준으로 채운다
+    @EventListener({ApplicationReadyEvent.class, InitDataSeededEvent.class}) // 시작 시, 준비 후 시드가 끝났을 때
+    public void initRemainingSlots() {
+        int updated = recruitRepository.initRemainingSlots();
+        if (updated > 0) {
+            log.info("모집글 남은 자리 수 초기화: {}건", updated);
+        }
     }
 
+    /**
+     * 동행 신청을 등록하는 메서드
+     * 조건부 UPDATE 로 남은 자리를 먼저 차지하므로 동시에 신청해도 모집 인원을 넘지 않는다. (해당 행만 잠김)
+     * 마지막 자리가 차면 모집글을 마감한다. 같은 모집글에는 한 번만 신청할 수 있다.
+     *
+     * @throws ServiceException 모집글이 없거나(404), 마감됐거나 자리가 없거나 이미 신청한 경우(409)
+     */
     @Transactional
     public ApplyResponseDto create(Long recruitId, ApplyCreateRequestDto requestDto, String token) {
         Member member = getLoggedInMember(token);
         Recruit recruit = recruitRepository.findById(recruitId).orElseThrow(() -> new ServiceException("404-3", "해당 모집글이 존재하지 않습니다."));
-        return new ApplyResponseDto(applyRepository.save(requestDto.toEntity(member, recruit)));
+
+        if (applyRepository.existsByRecruitRecruitIdAndMemberId(recruitId, member.getId())) {
+            throw new ServiceException("409-2", "이미 신청한 모집글입니다.");
+        }
+        if (recruitRepository.takeSlot(recruitId) == 0) {
+            throw new ServiceException("409-1", "모집이 마감되었거나 남은 자리가 없습니다.");
+        }
+
+        Apply apply;
+        try {
+            apply = applyRepository.save(requestDto.toEntity(member, recruit));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 두 번 신청한 경우 (유니크 제약), 롤백되며 차지한 자리도 돌아간다
+            throw new ServiceException("409-2", "이미 신청한 모집글입니다.");
+        }
+
+        if (recruitRepository.closeIfFull(recruitId, LocalDateTime.now()) > 0) {
+            recruitRecommendationService.refresh(recruitId); // 커밋 후 추천 후보에서 제거
+            eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS));
+        }
+
+        return new ApplyResponseDto(apply);
     }
 
+    @Transactional
     public void delete(Long applyId, String token) {
         Apply apply = applyRepository.findById(applyId).orElseThrow(() -> new ServiceException("404-3", "해당 모집 댓글이 존재하지 않습니다."));
         Member member = getLoggedInMember(token);
@@ -66,5 +149,6 @@ public class ApplyService {
             throw new ServiceException("403-2", "관리자가 아니라면 본인이 등록한 동행 요청 댓글만 삭제할 수 있습니다.");
         }
         applyRepository.deleteById(applyId);
+        recruitRepository.releaseSlot(apply.getRecruit().getRecruitId()); // 자동 마감된 글을 다시 열지는 않음
     }
 }
@@ -1,9 +1,12 @@
 package com.tripfriend.domain.recruit.recruit.controller;
 
+import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.place.place.service.PlaceService;
 import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto;
 import com.tripfriend.domain.recruit.recruit.dto.RecruitRequestDto;
 import com.tripfriend.domain.recruit.recruit.dto.RecruitDetailResponseDto;
+import com.tripfriend.domain.recruit.recruit.dto.RecruitRecommendationResponseDto;
+import com.tripfriend.domain.recruit.recruit.service.RecruitRecommendationService;
 import com.tripfriend.domain.recruit.recruit.service.RecruitService;
 import com.tripfriend.global.annotation.CheckPermission;
 import com.tripfriend.global.dto.RsData;
@@ -24,6 +27,7 @@ import java.util.Optional;
 @RequestMapping("/recruits")
 public class RecruitController {
     private final RecruitService recruitService;
+    private final RecruitRecommendationService recruitRecommendationService;
 
     @Operation(summary = "동행모집 글 단건조회", description = "id로 동행모집 글을 조회합니다.")
     @GetMapping("/{recruitId}") // 이름 맞춰주기
@@ -80,6 +84,16 @@ public class RecruitController {
         ));
     }
 
+    @Operation(summary = "동행모집 글 맞춤 추천", description = "여행 스타일, 본인 일정과 겹치는 기간, 예산, 후기를 남긴 도시, 작성자 평점으로 모집 중인 글을 추천합니다.")
+    @GetMapping("/recommendations")
+    public RsData<List<RecruitRecommendationResponseDto>> getRecommendations(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestHeader(value = "Authorization", required = false) String token
+    ) {
+        Member member = recruitService.getLoggedInMember(token);
+        return new RsData<>("200-3", "추천 동행 모집 글이 성공적으로 조회되었습니다.", recruitRecommendationService.recommend(member, limit));
+    }
+
     @Operation(summary = "동행모집 글 등록", description = "동행모집 글을 등록합니다.")
     @PostMapping
     public RsData<RecruitDetailResponseDto> createRecruit (@RequestBody RecruitRequestDto requestDto, @RequestHeader(value = "Authorization", required = false) String token) {
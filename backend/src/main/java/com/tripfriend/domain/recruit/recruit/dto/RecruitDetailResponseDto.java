@@ -2,6 +2,7 @@ package com.tripfriend.domain.recruit.recruit.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.tripfriend.domain.member.member.entity.Gender;
+import com.tripfriend.domain.recruit.apply.dto.ApplyPageResponseDto;
 import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto;
 import com.tripfriend.domain.recruit.recruit.entity.Recruit;
 import com.tripfriend.domain.recruit.recruit.entity.TravelStyle;
@@ -45,6 +46,8 @@ public class RecruitDetailResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<ApplyResponseDto> applies;
+    private Long applyNextCursor; // 신청이 더 있으면 /recruits/{id}/applies?cursor= 로 이어서 조회
+    private boolean hasMoreApplies;
 
     public RecruitDetailResponseDto(Recruit recruit){
         this.recruitId = recruit.getRecruitId();
@@ -91,4 +94,11 @@ public class RecruitDetailResponseDto {
         this(recruit); // 기존 생성자 호출
         this.applies = applies;
     }
+
+    // 신청 첫 페이지를 포함할 경우
+    public RecruitDetailResponseDto(Recruit recruit, ApplyPageResponseDto applyPage) {
+        this(recruit, applyPage.getApplies());
+        this.applyNextCursor = applyPage.getNextCursor();
+        this.hasMoreApplies = applyPage.isHasNext();
+    }
 }
@@ -0,0 +1,12 @@
+package com.tripfriend.domain.recruit.recruit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecruitRecommendationResponseDto {
+
+    private RecruitListResponseDto recruit;
+    private double score; // 0 ~ 1, 높을수록 잘 맞음
+}
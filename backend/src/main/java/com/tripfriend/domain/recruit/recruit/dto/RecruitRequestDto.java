@@ -47,6 +47,7 @@ public class RecruitRequestDto {
                 .sameAge(sameAge)
                 .budget(budget)
                 .groupSize(groupSize)
+                .remainingSlots(groupSize)
                 .build();
     }
 }
@@ -13,7 +13,11 @@ import java.time.*;
 import java.util.List;
 
 @Entity
-@Table(name = "Recruit")
+@Table(name = "Recruit", indexes = {
+        @Index(name = "idx_recruit_closed_budget", columnList = "is_closed, budget"),
+        @Index(name = "idx_recruit_closed_start_date", columnList = "is_closed, start_date"), // 자동 마감 대상 조회용
+        @Index(name = "idx_recruit_closed_remaining_slots", columnList = "is_closed, remaining_slots") // 인원 충족 마감 대상 조회용
+})
 @Getter
 // @ToString
 @NoArgsConstructor // jpa가 엔티티 생성할 때 필요로 함
@@ -70,6 +74,18 @@ public class Recruit extends BaseEntity {
     @Column(name = "group_size", nullable = false)
     private Integer groupSize = 2;
 
+    // 남은 자리 수, 신청 / 취소 시 조건부 UPDATE 로만 바꾸고 엔티티 수정 때는 덮어쓰지 않는다
+    @Column(name = "remaining_slots", updatable = false)
+    private Integer remainingSlots;
+
+    // 남은 자리를 따로 지정하지 않고 저장하면 모집 인원으로 시작
+    @PrePersist
+    protected void onCreate() {
+        if (remainingSlots == null) {
+            remainingSlots = groupSize;
+        }
+    }
+
     public Recruit update(RecruitRequestDto requestDto, Place place){
         this.place = place;
         this.title = requestDto.getTitle();
@@ -0,0 +1,12 @@
+package com.tripfriend.domain.recruit.recruit.event;
+
+import java.util.List;
+
+/**
+ * 모집글이 마감되거나 일괄 삭제(여행지 삭제, 회원 영구 삭제)됐을 때 발행하는 이벤트
+ * 트랜잭션 안에서 발행하면 추천 후보에서는 커밋 후에 제거된다.
+ *
+ * @param recruitIds 마감 / 삭제된 모집글 ID
+ */
+public record RecruitClosedEvent(List<Long> recruitIds) {
+}
@@ -1,13 +1,107 @@
 package com.tripfriend.domain.recruit.recruit.repository;
 
 import com.tripfriend.domain.recruit.recruit.entity.Recruit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecruitRepository extends JpaRepository<Recruit, Long>, RecruitRepositoryCustom {
     List<Recruit> findAllByOrderByCreatedAtDesc();
     List<Recruit> findTop3ByOrderByCreatedAtDesc();
+
+    // 예산 범위 안의 모집 중인 글 조회 (is_closed, budget 인덱스 사용)
+    @Query("SELECT r FROM Recruit r JOIN FETCH r.member JOIN FETCH r.place " +
+            "WHERE r.isClosed = false AND r.budget BETWEEN :minBudget AND :maxBudget ORDER BY r.budget")
+    List<Recruit> findOpenByBudgetBetween(@Param("minBudget") int minBudget, @Param("maxBudget") int maxBudget);
+
+    // 추천 후보 적재용 (모집 중이고 아직 출발 전인 글, 작성자와 여행지까지 한 번에)
+    @Query("SELECT r FROM Recruit r JOIN FETCH r.member JOIN FETCH r.place " +
+            "WHERE r.isClosed = false AND r.startDate >= :today")
+    List<Recruit> findOpenFromWithMemberAndPlace(@Param("today") LocalDate today);
+
+    // 모집글 한 건을 작성자, 여행지와 함께 조회
+    @Query("SELECT r FROM Recruit r JOIN FETCH r.member JOIN FETCH r.place WHERE r.recruitId = :recruitId")
+    Optional<Recruit> findWithMemberAndPlaceById(@Param("recruitId") Long recruitId);
+
+    // 출발일이 지난 모집 중인 글 ID (is_closed, start_date 인덱스 범위 조회)
+    @Query("SELECT r.recruitId FROM Recruit r WHERE r.isClosed = false AND r.startDate < :today ORDER BY r.startDate")
+    List<Long> findOpenIdsStartedBefore(@Param("today") LocalDate today, Pageable pageable);
+
+    // 남은 자리가 없는 모집 중인 글 ID (lastId 다음부터, is_closed, remaining_slots 인덱스 범위 조회)
+    @Query("SELECT r.recruitId FROM Recruit r WHERE r.isClosed = false AND r.remainingSlots = 0 " +
+            "AND r.recruitId > :lastId ORDER BY r.recruitId")
+    List<Long> findOpenFullIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 모집글 일괄 마감 (호출마다 바로 커밋되도록 자체 트랜잭션 사용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Recruit r SET r.isClosed = true, r.updatedAt = :now WHERE r.recruitId IN :recruitIds AND r.isClosed = false")
+    int closeByIds(@Param("recruitIds") List<Long> recruitIds, @Param("now") LocalDateTime now);
+
+    // 남은 자리 하나 차지, 반영된 행 수 반환 (0 이면 마감됐거나 자리가 없음)
+    @Modifying
+    @Query("UPDATE Recruit r SET r.remainingSlots = r.remainingSlots - 1 " +
+            "WHERE r.recruitId = :recruitId AND r.isClosed = false AND r.remainingSlots > 0")
+    int takeSlot(@Param("recruitId") Long recruitId);
+
+    // 신청 취소 시 자리 반환 (모집 인원을 넘지 않게)
+    @Modifying
+    @Query("UPDATE Recruit r SET r.remainingSlots = r.remainingSlots + 1 " +
+            "WHERE r.recruitId = :recruitId AND r.remainingSlots < r.groupSize")
+    int releaseSlot(@Param("recruitId") Long recruitId);
+
+    // 모집 인원 변경분만큼 남은 자리 조정 (0 미만으로 내려가지 않게)
+    @Modifying
+    @Query("UPDATE Recruit r SET r.remainingSlots = " +
+            "CASE WHEN r.remainingSlots + :delta < 0 THEN 0 ELSE r.remainingSlots + :delta END " +
+            "WHERE r.recruitId = :recruitId")
+    int adjustSlots(@Param("recruitId") Long recruitId, @Param("delta") int delta);
+
+    // 자리가 다 찬 모집글 마감
+    @Modifying
+    @Query("UPDATE Recruit r SET r.isClosed = true, r.updatedAt = :now " +
+            "WHERE r.recruitId = :recruitId AND r.remainingSlots = 0 AND r.isClosed = false")
+    int closeIfFull(@Param("recruitId") Long recruitId, @Param("now") LocalDateTime now);
+
+    // 남은 자리 수가 없는 기존 모집글을 신청 수로 채움 (컬럼 추가 전에 만들어진 글)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE recruit r SET r.remaining_slots = " +
+            "GREATEST(r.group_size - (SELECT COUNT(*) FROM apply a WHERE a.recruit_id = r.recruit_id), 0) " +
+            "WHERE r.remaining_slots IS NULL", nativeQuery = true)
+    int initRemainingSlots();
+
+    // 신청이 일괄 삭제된 모집글의 남은 자리를 남은 신청 수로 다시 계산 (마감 여부는 바꾸지 않음)
+    @Modifying
+    @Query(value = "UPDATE recruit r SET r.remaining_slots = " +
+            "GREATEST(r.group_size - (SELECT COUNT(*) FROM apply a WHERE a.recruit_id = r.recruit_id), 0) " +
+            "WHERE r.recruit_id IN (:recruitIds)", nativeQuery = true)
+    int recountSlots(@Param("recruitIds") List<Long> recruitIds);
+
+    // 일괄 삭제 전 추천 후보에서 뺄 모집글 ID
+    @Query("SELECT r.recruitId FROM Recruit r WHERE r.place.id = :placeId")
+    List<Long> findIdsByPlaceId(@Param("placeId") Long placeId);
+
+    @Query("SELECT r.recruitId FROM Recruit r WHERE r.member.id IN :memberIds")
+    List<Long> findIdsByMemberIds(@Param("memberIds") List<Long> memberIds);
+
+    // 여행지 삭제 시 해당 여행지의 동행 모집글 일괄 삭제 (신청을 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM Recruit r WHERE r.place.id = :placeId")
+    int deleteByPlaceId(@Param("placeId") Long placeId);
+
+    // 회원 영구 삭제 시 회원 모집글 일괄 삭제 (신청을 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM Recruit r WHERE r.member.id IN :memberIds")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
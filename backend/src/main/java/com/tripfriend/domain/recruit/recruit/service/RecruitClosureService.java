@@ -0,0 +1,87 @@
+package com.tripfriend.domain.recruit.recruit.service;
+
+import com.tripfriend.domain.recruit.recruit.event.RecruitClosedEvent;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모집글 자동 마감 작업
+ * 출발일이 지났거나 남은 자리가 없는 글을 작은 배치 단위 UPDATE 로 마감하고,
+ * 배치마다 RecruitClosedEvent 를 발행해 추천 후보나 캐시에서 빠지게 한다.
+ * 이미 마감된 글은 다시 건드리지 않으므로 여러 서버에서 동시에 실행돼도 결과는 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitClosureService {
+
+    static final int BATCH_SIZE = 200;
+
+    private final RecruitRepository recruitRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(cron = "0 */10 * * * ?") // 10분마다 실행
+    public void closeRecruits() {
+        int expired = closeStarted(LocalDate.now());
+        int full = closeFull();
+
+        if (expired + full > 0) {
+            log.info("모집글 자동 마감: 출발일 경과 {}건, 인원 충족 {}건", expired, full);
+        }
+    }
+
+    /**
+     * 출발일이 지난 모집 중인 글을 마감하는 메서드
+     * 마감된 글은 다음 조회에서 빠지므로 매번 처음부터 읽는다.
+     *
+     * @param today 기준일 (이 날짜 이전에 출발한 글이 대상)
+     * @return 마감한 글 수
+     */
+    public int closeStarted(LocalDate today) {
+        int total = 0;
+        List<Long> ids;
+        while (!(ids = recruitRepository.findOpenIdsStartedBefore(today, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            int closed = close(ids);
+            if (closed == 0) {
+                break; // 조회된 글을 하나도 마감하지 못했으면 같은 글을 반복해서 읽게 되므로 중단
+            }
+            total += closed;
+        }
+        return total;
+    }
+
+    /**
+     * 남은 자리가 없는 모집 중인 글을 마감하는 메서드
+     * 신청으로 자리가 다 차면 신청 트랜잭션에서 바로 마감하므로, 주로 모집 인원을 줄여 자리가 없어진 글이 대상이다.
+     *
+     * @return 마감한 글 수
+     */
+    public int closeFull() {
+        int total = 0;
+        long lastId = 0L;
+        List<Long> ids;
+        while (!(ids = recruitRepository.findOpenFullIds(lastId, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            total += close(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+        return total;
+    }
+
+    private int close(List<Long> ids) {
+        int closed = recruitRepository.closeByIds(ids, LocalDateTime.now());
+        eventPublisher.publishEvent(new RecruitClosedEvent(ids));
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS));
+        return closed;
+    }
+}
@@ -0,0 +1,185 @@
+package com.tripfriend.domain.recruit.recruit.service;
+
+import com.tripfriend.domain.member.member.entity.AgeRange;
+import com.tripfriend.domain.member.member.entity.Gender;
+import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto;
+import com.tripfriend.domain.recruit.recruit.entity.Recruit;
+import com.tripfriend.domain.recruit.recruit.entity.TravelStyle;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동행 추천 후보 인덱스
+ * 모집 중인 글마다 점수 계산에 필요한 값(여행 스타일, 기간, 예산, 도시, 작성자 평점)과 목록 응답을 미리 만들어 두고,
+ * 추천 요청 시에는 SQL 없이 후보를 순회하며 점수를 매겨 상위 N 개만 힙으로 고른다.
+ */
+final class RecruitRecommendationIndex {
+
+    // 항목별 가중치 (합계 1)
+    private static final double STYLE_WEIGHT = 0.30;
+    private static final double DATE_WEIGHT = 0.25;
+    private static final double BUDGET_WEIGHT = 0.15;
+    private static final double CITY_WEIGHT = 0.15;
+    private static final double RATING_WEIGHT = 0.15;
+    private static final double MAX_RATING = 5.0;
+    private static final double NEUTRAL = 0.5; // 비교할 정보가 없을 때의 점수
+
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+    void replaceAll(List<Recruit> recruits) {
+        Map<Long, Candidate> loaded = new ConcurrentHashMap<>();
+        for (Recruit recruit : recruits) {
+            loaded.put(recruit.getRecruitId(), new Candidate(recruit));
+        }
+        candidates.keySet().retainAll(loaded.keySet());
+        candidates.putAll(loaded);
+    }
+
+    void put(Recruit recruit) {
+        candidates.put(recruit.getRecruitId(), new Candidate(recruit));
+    }
+
+    void remove(Long recruitId) {
+        candidates.remove(recruitId);
+    }
+
+    int size() {
+        return candidates.size();
+    }
+
+    /**
+     * 회원에게 맞는 모집글을 점수 높은 순으로 limit 개까지 반환한다.
+     */
+    List<Scored> recommend(MemberProfile profile, LocalDate today, int limit) {
+        PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score)); // 최소 힙
+
+        for (Candidate candidate : candidates.values()) {
+            if (!candidate.isEligible(profile, today)) {
+                continue;
+            }
+            double score = candidate.score(profile);
+            if (top.size() < limit) {
+                top.add(new Scored(candidate.dto, score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new Scored(candidate.dto, score));
+            }
+        }
+
+        List<Scored> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(Scored::score).reversed());
+        return result;
+    }
+
+    record Scored(RecruitListResponseDto recruit, double score) {
+    }
+
+    /**
+     * 추천 대상 회원의 특징 (요청마다 한 번 만든다)
+     *
+     * @param memberId      회원 ID (본인 글 제외용)
+     * @param gender        성별
+     * @param ageRange      나이대
+     * @param travelStyle   모집글 기준으로 바꾼 여행 스타일 (없으면 null)
+     * @param schedules     본인 여행 일정 기간 [startEpochDay, endEpochDay]
+     * @param budget        본인 일정의 평균 예산 (없으면 0)
+     * @param cityCounts    도시별 후기 수
+     * @param maxCityCount  가장 많이 후기를 남긴 도시의 후기 수
+     */
+    record MemberProfile(Long memberId, Gender gender, AgeRange ageRange, TravelStyle travelStyle,
+                         List<long[]> schedules, long budget, Map<String, Long> cityCounts, long maxCityCount) {
+    }
+
+    private static final class Candidate {
+
+        private final RecruitListResponseDto dto;
+        private final Long hostId;
+        private final Gender hostGender;
+        private final AgeRange hostAgeRange;
+        private final boolean sameGender;
+        private final boolean sameAge;
+        private final TravelStyle travelStyle;
+        private final LocalDate startDate;
+        private final long startDay;
+        private final long endDay;
+        private final int budget;
+        private final String cityName;
+        private final double ratingScore;
+
+        private Candidate(Recruit recruit) {
+            this.dto = new RecruitListResponseDto(recruit);
+            this.hostId = recruit.getMember().getId();
+            this.hostGender = recruit.getMember().getGender();
+            this.hostAgeRange = recruit.getMember().getAgeRange();
+            this.sameGender = recruit.isSameGender();
+            this.sameAge = recruit.isSameAge();
+            this.travelStyle = recruit.getTravelStyle();
+            this.startDate = recruit.getStartDate();
+            this.startDay = recruit.getStartDate().toEpochDay();
+            this.endDay = recruit.getEndDate().toEpochDay();
+            this.budget = recruit.getBudget() == null ? 0 : recruit.getBudget();
+            this.cityName = recruit.getPlace().getCityName();
+
+            Double rating = recruit.getMember().getRating();
+            this.ratingScore = rating == null ? 0 : Math.min(1.0, Math.max(0, rating / MAX_RATING));
+        }
+
+        // 본인 글, 이미 출발한 글, 성별 / 나이 제한에 걸리는 글은 제외 (searchAndFilter 와 같은 기준)
+        private boolean isEligible(MemberProfile profile, LocalDate today) {
+            if (hostId.equals(profile.memberId()) || startDate.isBefore(today)) {
+                return false;
+            }
+            if (sameGender && hostGender != profile.gender()) {
+                return false;
+            }
+            return !sameAge || hostAgeRange == profile.ageRange();
+        }
+
+        private double score(MemberProfile profile) {
+            return STYLE_WEIGHT * styleScore(profile)
+                    + DATE_WEIGHT * dateScore(profile)
+                    + BUDGET_WEIGHT * budgetScore(profile)
+                    + CITY_WEIGHT * cityScore(profile)
+                    + RATING_WEIGHT * ratingScore;
+        }
+
+        private double styleScore(MemberProfile profile) {
+            if (profile.travelStyle() == null) {
+                return NEUTRAL;
+            }
+            return profile.travelStyle() == travelStyle ? 1.0 : 0.0;
+        }
+
+        // 모집 기간 중 본인 일정과 겹치는 날의 비율 (가장 많이 겹치는 일정 기준)
+        private double dateScore(MemberProfile profile) {
+            long days = endDay - startDay + 1;
+            long best = 0;
+            for (long[] schedule : profile.schedules()) {
+                long overlap = Math.min(endDay, schedule[1]) - Math.max(startDay, schedule[0]) + 1;
+                best = Math.max(best, overlap);
+            }
+            return days <= 0 ? 0 : (double) best / days;
+        }
+
+        private double budgetScore(MemberProfile profile) {
+            if (profile.budget() <= 0 || budget <= 0) {
+                return NEUTRAL;
+            }
+            double diff = Math.abs(budget - profile.budget());
+            return 1.0 - diff / Math.max(budget, profile.budget());
+        }
+
+        private double cityScore(MemberProfile profile) {
+            if (profile.maxCityCount() == 0) {
+                return 0;
+            }
+            return (double) profile.cityCounts().getOrDefault(cityName, 0L) / profile.maxCityCount();
+        }
+    }
+}
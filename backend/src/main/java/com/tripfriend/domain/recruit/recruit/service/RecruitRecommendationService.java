@@ -0,0 +1,220 @@
+package com.tripfriend.domain.recruit.recruit.service;
+
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.recruit.recruit.dto.RecruitRecommendationResponseDto;
+import com.tripfriend.domain.recruit.recruit.entity.TravelStyle;
+import com.tripfriend.domain.recruit.recruit.event.RecruitClosedEvent;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.domain.review.repository.ReviewRepository;
+import com.tripfriend.domain.trip.budget.repository.TripBudgetRepository;
+import com.tripfriend.domain.trip.schedule.entity.TripSchedule;
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository;
+import com.tripfriend.global.annotation.MeasureTime;
+import com.tripfriend.global.init.InitDataSeededEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 맞춤 동행 추천 서비스
+ * 모집 중인 글을 메모리 인덱스에 올려 두고, 모집글이 바뀌면 커밋 후 해당 글만 다시 읽어 반영한다.
+ * 다른 서버에는 Redis 채널로 바뀐 모집글 ID 를 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitRecommendationService implements MessageListener {
+
+    static final String CHANNEL = "recruit:recommendation";
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+    private static final String SEPARATOR = ":";
+    private static final String REMOVED_PREFIX = "-";
+
+    private final RecruitRepository recruitRepository;
+    private final TripScheduleRepository tripScheduleRepository;
+    private final TripBudgetRepository tripBudgetRepository;
+    private final ReviewRepository reviewRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final RecruitRecommendationIndex index = new RecruitRecommendationIndex();
+    private final String instanceId = UUID.randomUUID().toString(); // 자기 자신이 보낸 알림 구분용
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 추천 후보 전체를 다시 적재하는 메서드
+     * 서버 시작 시 한 번, 이후에는 작성자 평점 변화와 출발일이 지난 글을 반영하기 위해 주기적으로 실행한다.
+     */
+    @EventListener({ApplicationReadyEvent.class, InitDataSeededEvent.class}) // 시작 시, 준비 후 시드가 끝났을 때
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    @Transactional(readOnly = true)
+    public void reload() {
+        index.replaceAll(recruitRepository.findOpenFromWithMemberAndPlace(LocalDate.now()));
+        log.debug("동행 추천 후보 갱신: {}건", index.size());
+    }
+
+    /**
+     * 회원에게 맞는 모집글을 추천하는 메서드
+     * 회원 특징을 만드는 데 쿼리 3번, 후보 점수 계산은 메모리에서 처리한다.
+     *
+     * @param member 로그인한 회원
+     * @param limit  최대 개수 (1 ~ 50)
+     * @return 점수 높은 순 추천 목록
+     */
+    @MeasureTime
+    @Transactional(readOnly = true)
+    public List<RecruitRecommendationResponseDto> recommend(Member member, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        return index.recommend(buildProfile(member), LocalDate.now(), size).stream()
+                .map(scored -> new RecruitRecommendationResponseDto(scored.recruit(), scored.score()))
+                .toList();
+    }
+
+    /**
+     * 모집글이 생성 / 수정 / 삭제됐음을 알리는 메서드
+     * 트랜잭션 안이면 커밋 후에 반영해 롤백된 변경이 추천되지 않게 한다.
+     *
+     * @param recruitId 변경된 모집글 ID
+     */
+    public void refresh(Long recruitId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshAndPublish(recruitId);
+                }
+            });
+        } else {
+            refreshAndPublish(recruitId);
+        }
+    }
+
+    // 마감 / 일괄 삭제된 글은 다시 읽을 필요 없이 후보에서 제거하고, 다른 서버에는 ID 목록을 한 번에 알린다
+    // 트랜잭션 안에서 발행되면 커밋 후에 반영한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecruitClosed(RecruitClosedEvent event) {
+        if (event.recruitIds().isEmpty()) {
+            return;
+        }
+        event.recruitIds().forEach(index::remove);
+        publish(REMOVED_PREFIX + event.recruitIds().stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    // 다른 서버에서 모집글이 변경된 경우 (제거 목록이면 DB 를 읽지 않고 바로 제거)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+        if (parts.length != 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        if (parts[1].startsWith(REMOVED_PREFIX)) {
+            for (String recruitId : parts[1].substring(REMOVED_PREFIX.length()).split(",")) {
+                index.remove(Long.valueOf(recruitId));
+            }
+        } else {
+            refreshLocally(Long.valueOf(parts[1]));
+        }
+    }
+
+    private void refreshAndPublish(Long recruitId) {
+        refreshLocally(recruitId);
+        publish(String.valueOf(recruitId));
+    }
+
+    // 알림 형식: "인스턴스ID:모집글ID" (다시 읽기) 또는 "인스턴스ID:-ID,ID,..." (제거)
+    private void publish(String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + payload);
+        } catch (Exception e) {
+            log.warn("동행 추천 후보 변경 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // 모집 중이고 출발 전이면 후보에 반영, 아니면(마감, 삭제 등) 제거
+    private void refreshLocally(Long recruitId) {
+        LocalDate today = LocalDate.now();
+        recruitRepository.findWithMemberAndPlaceById(recruitId)
+                .filter(recruit -> !recruit.isClosed() && !recruit.getStartDate().isBefore(today))
+                .ifPresentOrElse(index::put, () -> index.remove(recruitId));
+    }
+
+    private RecruitRecommendationIndex.MemberProfile buildProfile(Member member) {
+        // 본인 일정 기간과 평균 예산
+        List<TripSchedule> schedules = tripScheduleRepository.findByMemberId(member.getId());
+        List<long[]> ranges = new ArrayList<>();
+        List<Long> scheduleIds = new ArrayList<>();
+        for (TripSchedule schedule : schedules) {
+            if (schedule.getStartDate() != null && schedule.getEndDate() != null) {
+                ranges.add(new long[]{schedule.getStartDate().toEpochDay(), schedule.getEndDate().toEpochDay()});
+            }
+            scheduleIds.add(schedule.getId());
+        }
+
+        long budget = 0;
+        if (!scheduleIds.isEmpty()) {
+            long total = 0;
+            int count = 0;
+            for (Object[] row : tripBudgetRepository.sumTotalCostGroupByTripScheduleIds(scheduleIds)) {
+                long cost = ((Number) row[1]).longValue();
+                if (cost > 0) {
+                    total += cost;
+                    count++;
+                }
+            }
+            budget = count == 0 ? 0 : total / count;
+        }
+
+        // 후기를 남긴 도시 선호도
+        Map<String, Long> cityCounts = new HashMap<>();
+        long maxCityCount = 0;
+        for (Object[] row : reviewRepository.countGroupByCityNameForMember(member.getId())) {
+            long count = (Long) row[1];
+            cityCounts.put((String) row[0], count);
+            maxCityCount = Math.max(maxCityCount, count);
+        }
+
+        return new RecruitRecommendationIndex.MemberProfile(member.getId(), member.getGender(), member.getAgeRange(),
+                toRecruitStyle(member.getTravelStyle()), ranges, budget, cityCounts, maxCityCount);
+    }
+
+    // 회원 여행 스타일을 모집글 여행 스타일로 변환 (대응되는 값이 없으면 null)
+    private TravelStyle toRecruitStyle(com.tripfriend.domain.member.member.entity.TravelStyle travelStyle) {
+        if (travelStyle == null) {
+            return null;
+        }
+        return switch (travelStyle) {
+            case TOURISM -> TravelStyle.SIGHTSEEING;
+            case RELAXATION -> TravelStyle.RELAXATION;
+            case SHOPPING -> TravelStyle.SHOPPING;
+            case UNKNOWN -> null;
+        };
+    }
+}
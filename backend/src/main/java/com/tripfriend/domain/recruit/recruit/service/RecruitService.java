@@ -7,21 +7,26 @@ import com.tripfriend.domain.member.member.repository.MemberRepository;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.place.place.entity.Place;
 import com.tripfriend.domain.place.place.repository.PlaceRepository;
-import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto;
+import com.tripfriend.domain.recruit.apply.service.ApplyService;
 import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto;
 import com.tripfriend.domain.recruit.recruit.dto.RecruitRequestDto;
 import com.tripfriend.domain.recruit.recruit.dto.RecruitDetailResponseDto;
 import com.tripfriend.domain.recruit.recruit.entity.Recruit;
 import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
 import com.tripfriend.global.exception.ServiceException;
 import jakarta.validation.constraints.Null;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +35,9 @@ public class RecruitService {
     private final MemberRepository memberRepository;
     private final PlaceRepository placeRepository;
     private final AuthService authService;
+    private final ApplyService applyService;
+    private final RecruitRecommendationService recruitRecommendationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 현재 로그인한 회원객체를 반환하는 메서드
@@ -49,13 +57,11 @@ public class RecruitService {
         return member;
     }
 
-    @Transactional
+    // 모집글(작성자, 여행지 포함) 1번 + 신청 첫 페이지(신청자 포함) 1번, 신청 수와 관계없이 쿼리 2번
+    @Transactional(readOnly = true)
     public RecruitDetailResponseDto findById(Long id) {
-        Recruit recruit = recruitRepository.findById(id).orElseThrow(() -> new ServiceException("404-3", "해당 모집글이 존재하지 않습니다."));
-        List<ApplyResponseDto> applies = recruit.getApplies().stream()
-                .map(ApplyResponseDto::new)
-                .toList();
-        return new RecruitDetailResponseDto(recruit, applies);
+        Recruit recruit = recruitRepository.findWithMemberAndPlaceById(id).orElseThrow(() -> new ServiceException("404-3", "해당 모집글이 존재하지 않습니다."));
+        return new RecruitDetailResponseDto(recruit, applyService.findPage(id, null, ApplyService.DEFAULT_PAGE_SIZE));
     }
 
     @Transactional
@@ -63,7 +69,11 @@ public class RecruitService {
         Member member = getLoggedInMember(token);
         Place place = placeRepository.findById(requestDto.getPlaceId()).orElseThrow(() -> new ServiceException("404-2", "해당 장소가 존재하지 않습니다."));
 
-        return new RecruitDetailResponseDto(recruitRepository.save(requestDto.toEntity(member, place)));
+        Recruit recruit = recruitRepository.save(requestDto.toEntity(member, place));
+        recruitRecommendationService.refresh(recruit.getRecruitId());
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS));
+
+        return new RecruitDetailResponseDto(recruit);
     }
 
     @Transactional
@@ -77,11 +87,13 @@ public class RecruitService {
 //                .toList();
     }
 
-    @Transactional
+    // 홈 화면용, 동시에 캐시가 비어 있어도 DB 는 한 번만 읽는다 (캐시에서 복원할 수 있도록 ArrayList 로 반환)
+    @Cacheable(cacheNames = CacheNames.RECENT_RECRUITS, key = "'recent3'", sync = true)
+    @Transactional(readOnly = true)
     public List<RecruitListResponseDto> findRecent3() {
         return recruitRepository.findTop3ByOrderByCreatedAtDesc().stream()
                 .map(RecruitListResponseDto::new)
-                .toList();
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -149,7 +161,13 @@ public class RecruitService {
             throw new ServiceException("403-2", "관리자가 아니라면 본인이 등록한 동행 모집글만 수정할 수 있습니다.");
         }
 
+        int previousGroupSize = recruit.getGroupSize();
         recruit.update(requestDto, place);
+        if (recruit.getGroupSize() != previousGroupSize) {
+            recruitRepository.adjustSlots(recruitId, recruit.getGroupSize() - previousGroupSize);
+        }
+        recruitRecommendationService.refresh(recruitId);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS));
         return new RecruitDetailResponseDto(recruit); // recruitRepository.save(recruit) 불필요!
     }
 
@@ -165,6 +183,8 @@ public class RecruitService {
         }
 
         recruitRepository.deleteById(recruitId);
+        recruitRecommendationService.refresh(recruitId); // 삭제된 글은 후보에서 제거
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS));
     }
 
 
@@ -111,7 +111,10 @@ public class ReviewController {
     public RsData<List<ReviewResponseDto>> getPopularReviews(
             @RequestParam(name = "limit", defaultValue = "10") int limit) {
 
-        List<ReviewResponseDto> popularReviews = reviewService.getPopularReviews(limit);
+        int size = Math.max(1, Math.min(limit, ReviewService.POPULAR_REVIEWS_MAX)); // 1 ~ 최댓값으로 제한
+        List<ReviewResponseDto> popularReviews = reviewService.getPopularReviews().stream()
+                .limit(size)
+                .toList();
         return new RsData<>("200-6", "인기 리뷰 목록을 성공적으로 조회했습니다.", popularReviews);
     }
 
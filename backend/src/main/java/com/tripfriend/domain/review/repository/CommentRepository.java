@@ -2,6 +2,9 @@ package com.tripfriend.domain.review.repository;
 
 import com.tripfriend.domain.review.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +19,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 특정 리뷰의 댓글 수 조회
     long countByReviewReviewId(Long reviewId);
+
+    // 리뷰별 댓글 수 [reviewId, count]
+    @Query("SELECT c.review.reviewId, COUNT(c) FROM Comment c GROUP BY c.review.reviewId")
+    List<Object[]> countGroupByReviewId();
+
+    // 특정 여행지 리뷰들의 댓글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.review.reviewId IN (SELECT r.reviewId FROM Review r WHERE r.place.id = :placeId)")
+    int deleteByReviewPlaceId(@Param("placeId") Long placeId);
+
+    // 회원 영구 삭제 시 회원이 작성한 댓글과 회원 리뷰에 달린 댓글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.member.id IN :memberIds " +
+            "OR c.review.reviewId IN (SELECT r.reviewId FROM Review r WHERE r.member.id IN :memberIds)")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
@@ -2,7 +2,9 @@ package com.tripfriend.domain.review.repository;
 
 import com.tripfriend.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +16,18 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r, COUNT(c) as commentCount FROM Review r LEFT JOIN Comment c ON r.reviewId = c.review.reviewId GROUP BY r ORDER BY commentCount DESC")
     List<Object[]> findAllOrderByCommentCountDesc();
 
+    // 인기 리뷰 점수 계산용 (작성자, 여행지까지 한 번에)
+    @Query("SELECT r FROM Review r JOIN FETCH r.member JOIN FETCH r.place")
+    List<Review> findAllWithMemberAndPlace();
+
+    // 여행지별 리뷰 수 [placeId, count]
+    @Query("SELECT r.place.id, COUNT(r) FROM Review r GROUP BY r.place.id")
+    List<Object[]> countGroupByPlaceId();
+
+    // 회원이 후기를 남긴 도시별 후기 수 [cityName, count] (동행 추천용)
+    @Query("SELECT r.place.cityName, COUNT(r) FROM Review r WHERE r.member.id = :memberId GROUP BY r.place.cityName")
+    List<Object[]> countGroupByCityNameForMember(@Param("memberId") Long memberId);
+
     // 평점 높은 순으로 정렬
     List<Review> findAllByOrderByRatingDesc();
 
@@ -40,4 +54,14 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     // 특정 사용자의 리뷰 목록
     List<Review> findByMemberIdOrderByCreatedAtDesc(Long memberId);
-}
\ No newline at end of file
+
+    // 여행지 삭제 시 해당 여행지의 리뷰 일괄 삭제 (댓글, 조회수를 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.place.id = :placeId")
+    int deleteByPlaceId(@Param("placeId") Long placeId);
+
+    // 회원 영구 삭제 시 회원 리뷰 일괄 삭제 (댓글, 조회수를 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.member.id IN :memberIds")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
+}
@@ -2,8 +2,27 @@ package com.tripfriend.domain.review.repository;
 
 import com.tripfriend.domain.review.entity.ReviewViewCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ReviewViewCountRepository extends JpaRepository<ReviewViewCount, Long> {
-}
\ No newline at end of file
+
+    // 리뷰별 조회수 [reviewId, count]
+    @Query("SELECT v.reviewId, v.count FROM ReviewViewCount v")
+    List<Object[]> findAllCounts();
+
+    // 특정 여행지 리뷰들의 조회수 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewViewCount v WHERE v.reviewId IN (SELECT r.reviewId FROM Review r WHERE r.place.id = :placeId)")
+    int deleteByReviewPlaceId(@Param("placeId") Long placeId);
+
+    // 회원 영구 삭제 시 회원 리뷰의 조회수 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewViewCount v WHERE v.reviewId IN (SELECT r.reviewId FROM Review r WHERE r.member.id IN :memberIds)")
+    int deleteByReviewMemberIds(@Param("memberIds") List<Long> memberIds);
+}
@@ -7,8 +7,11 @@ import com.tripfriend.domain.review.entity.Comment;
 import com.tripfriend.domain.review.entity.Review;
 import com.tripfriend.domain.review.repository.CommentRepository;
 import com.tripfriend.domain.review.repository.ReviewRepository;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
 import com.tripfriend.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 생성
     @Transactional
@@ -39,6 +43,7 @@ public class CommentService {
 
         // 댓글 저장
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.POPULAR_REVIEWS)); // 인기 리뷰 점수에 댓글 수 포함
 
         // 저장된 댓글을 DTO로 변환하여 반환
         return new CommentResponseDto(savedComment, member.getNickname());
@@ -108,5 +113,6 @@ public class CommentService {
 
         // 댓글 삭제
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.POPULAR_REVIEWS));
     }
 }
\ No newline at end of file
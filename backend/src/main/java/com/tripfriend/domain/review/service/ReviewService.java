@@ -10,14 +10,19 @@ import com.tripfriend.domain.review.entity.ReviewViewCount;
 import com.tripfriend.domain.review.repository.CommentRepository;
 import com.tripfriend.domain.review.repository.ReviewRepository;
 import com.tripfriend.domain.review.repository.ReviewViewCountRepository;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
 import com.tripfriend.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,6 +36,9 @@ public class ReviewService {
 
     // ★ 추가: placeRepository 주입
     private final PlaceRepository placeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final int POPULAR_REVIEWS_MAX = 50; // 인기 게시물 조회 limit 최댓값
 
     // 리뷰 생성
     @Transactional
@@ -58,6 +66,7 @@ public class ReviewService {
 
         // 리뷰 저장
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.POPULAR_REVIEWS));
 
         // 조회수 엔티티 초기화
         ReviewViewCount viewCount = new ReviewViewCount(savedReview);
@@ -143,6 +152,7 @@ public class ReviewService {
 
         // 내용 업데이트
         review.update(requestDto.getTitle(), requestDto.getContent(), requestDto.getRating());
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.POPULAR_REVIEWS));
 
         // 댓글 수
         int commentCount = commentRepository.findByReviewReviewIdOrderByCreatedAtAsc(reviewId).size();
@@ -172,25 +182,28 @@ public class ReviewService {
 
         // 리뷰 삭제
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.POPULAR_REVIEWS));
     }
 
-    // 인기 게시물 조회
-    public List<ReviewResponseDto> getPopularReviews(int limit) {
-        List<Review> allReviews = reviewRepository.findAll();
+    // 인기 게시물 상위 POPULAR_REVIEWS_MAX 건 조회 (홈 화면용, 고정 키 하나로 캐시하고 호출하는 쪽에서 잘라 쓴다)
+    // 동시에 캐시가 비어 있어도 DB 는 한 번만 읽고, 리뷰 수와 관계없이 쿼리는 3건
+    @Cacheable(cacheNames = CacheNames.POPULAR_REVIEWS, key = "'top'", sync = true)
+    public List<ReviewResponseDto> getPopularReviews() {
+        List<Review> allReviews = reviewRepository.findAllWithMemberAndPlace();
+        Map<Long, Integer> viewCounts = toCountMap(viewCountRepository.findAllCounts());
+        Map<Long, Integer> commentCounts = toCountMap(commentRepository.countGroupByReviewId());
 
         // 리뷰별 점수 계산(조회수 + 평점 + 댓글수) 후 정렬
         List<ReviewWithScore> reviewsWithScores = allReviews.stream()
                 .map(review -> {
-                    int viewCount = viewCountRepository.findById(review.getReviewId())
-                            .map(ReviewViewCount::getCount)
-                            .orElse(0);
-                    int commentCount = commentRepository.findByReviewReviewIdOrderByCreatedAtAsc(review.getReviewId()).size();
+                    int viewCount = viewCounts.getOrDefault(review.getReviewId(), 0);
+                    int commentCount = commentCounts.getOrDefault(review.getReviewId(), 0);
                     // 가중치 점수 계산 예시
                     double score = (viewCount * 0.5) + (review.getRating() * 2.0) + (commentCount * 1.5);
                     return new ReviewWithScore(review, score, commentCount, viewCount);
                 })
                 .sorted((r1, r2) -> Double.compare(r2.score, r1.score)) // 내림차순
-                .limit(limit)
+                .limit(POPULAR_REVIEWS_MAX)
                 .collect(Collectors.toList());
 
         // DTO 변환
@@ -315,6 +328,12 @@ public class ReviewService {
         return reviewDtos;
     }
 
+    // [reviewId, count] 행을 reviewId -> count 로 변환
+    private Map<Long, Integer> toCountMap(List<Object[]> rows) {
+        return rows.stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+    }
+
     // 내부 클래스 (인기 게시물 계산)
     private static class ReviewWithScore {
         private final Review review;
@@ -0,0 +1,67 @@
+package com.tripfriend.domain.trip.budget.controller;
+
+import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto;
+import com.tripfriend.domain.trip.budget.dto.BudgetComparisonResDto;
+import com.tripfriend.domain.trip.budget.dto.TripBudgetResDto;
+import com.tripfriend.domain.trip.budget.service.TripBudgetService;
+import com.tripfriend.global.dto.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/trip/budget")
+@Tag(name = "TripBudget API", description = "여행 일정 예산 집계 기능을 제공합니다.")
+public class TripBudgetController {
+
+    private final TripBudgetService tripBudgetService;
+
+    // 일정 예산 요약 조회
+    @GetMapping("/{scheduleId}")
+    @Operation(summary = "나의 여행 일정 예산 조회", description = "일정의 총 비용, 날짜별 / 교통수단별 비용과 방문기간 합계(totalDuration, 일 단위)를 조회합니다.")
+    public RsData<TripBudgetResDto> getBudget(
+            @Parameter(description = "여행 일정 id", example = "1") @PathVariable Long scheduleId,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+
+        return new RsData<>(
+                "200-1",
+                "일정 예산 조회 성공",
+                tripBudgetService.getBudget(scheduleId, token)
+        );
+    }
+
+    // 동행 모집글 예산과 비교
+    @GetMapping("/{scheduleId}/recruits/{recruitId}")
+    @Operation(summary = "동행 모집 예산 비교", description = "일정의 총 비용과 동행 모집글의 예산을 비교합니다.")
+    public RsData<BudgetComparisonResDto> compareWithRecruit(
+            @PathVariable Long scheduleId,
+            @PathVariable Long recruitId,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+
+        return new RsData<>(
+                "200-2",
+                "예산 비교 성공",
+                tripBudgetService.compareWithRecruit(scheduleId, recruitId, token)
+        );
+    }
+
+    // 예산이 비슷한 모집 중인 동행 모집글 조회
+    @GetMapping("/{scheduleId}/recruits")
+    @Operation(summary = "예산이 맞는 동행 모집글 조회", description = "일정 총 비용 기준 허용 오차(%) 안의 예산을 가진 모집 중인 글을 조회합니다.")
+    public RsData<List<RecruitListResponseDto>> findRecruitsWithinBudget(
+            @PathVariable Long scheduleId,
+            @Parameter(description = "허용 오차(%)", example = "20") @RequestParam(defaultValue = "20") int margin,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+
+        return new RsData<>(
+                "200-3",
+                "예산이 맞는 동행 모집글 조회 성공",
+                tripBudgetService.findRecruitsWithinBudget(scheduleId, margin, token)
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.tripfriend.domain.trip.budget.dto;
+
+import lombok.Getter;
+
+@Getter
+public class BudgetComparisonResDto { // 여행 일정 비용과 동행 모집 예산 비교 DTO
+    private final Long tripScheduleId;
+    private final long scheduleTotalCost;
+    private final Long recruitId;
+    private final int recruitBudget;
+    private final long difference; // 모집 예산 - 일정 비용 (음수면 예산 초과)
+    private final boolean withinBudget;
+
+    public BudgetComparisonResDto(Long tripScheduleId, long scheduleTotalCost, Long recruitId, int recruitBudget) {
+        this.tripScheduleId = tripScheduleId;
+        this.scheduleTotalCost = scheduleTotalCost;
+        this.recruitId = recruitId;
+        this.recruitBudget = recruitBudget;
+        this.difference = recruitBudget - scheduleTotalCost;
+        this.withinBudget = this.difference >= 0;
+    }
+}
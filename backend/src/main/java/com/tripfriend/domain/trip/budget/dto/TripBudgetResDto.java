@@ -0,0 +1,39 @@
+package com.tripfriend.domain.trip.budget.dto;
+
+import com.tripfriend.domain.trip.budget.entity.TripBudget;
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class TripBudgetResDto { // 여행 일정 예산 요약 DTO
+    private final Long tripScheduleId;
+    private long totalCost;
+    private int totalDuration; // 방문기간 합계(일 단위)
+    private int stopCount;
+    private final Map<Transportation, Long> costByTransportation = new EnumMap<>(Transportation.class);
+    private final List<TripDailyBudgetResDto> days;
+
+    // 날짜, 교통수단 순으로 정렬된 집계 행으로 생성
+    public TripBudgetResDto(Long tripScheduleId, List<TripBudget> buckets) {
+        this.tripScheduleId = tripScheduleId;
+
+        Map<LocalDate, TripDailyBudgetResDto> daily = new LinkedHashMap<>();
+        for (TripBudget bucket : buckets) {
+            daily.computeIfAbsent(bucket.getBudgetDate(), TripDailyBudgetResDto::new)
+                    .add(bucket.getTransportation(), bucket.getTotalCost(), bucket.getTotalDuration(), bucket.getStopCount());
+
+            this.totalCost += bucket.getTotalCost();
+            this.totalDuration += bucket.getTotalDuration();
+            this.stopCount += bucket.getStopCount();
+            this.costByTransportation.merge(bucket.getTransportation(), bucket.getTotalCost(), Long::sum);
+        }
+        this.days = new ArrayList<>(daily.values());
+    }
+}
@@ -0,0 +1,29 @@
+package com.tripfriend.domain.trip.budget.dto;
+
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+public class TripDailyBudgetResDto { // 날짜별 예산 집계 DTO
+    private final LocalDate date;
+    private long totalCost;
+    private int totalDuration; // 방문기간 합계(일 단위)
+    private int stopCount;
+    private final Map<Transportation, Long> costByTransportation = new EnumMap<>(Transportation.class);
+
+    public TripDailyBudgetResDto(LocalDate date) {
+        this.date = date;
+    }
+
+    // 교통수단별 집계 행을 더한다
+    public void add(Transportation transportation, long cost, int duration, int stops) {
+        this.totalCost += cost;
+        this.totalDuration += duration;
+        this.stopCount += stops;
+        this.costByTransportation.merge(transportation, cost, Long::sum);
+    }
+}
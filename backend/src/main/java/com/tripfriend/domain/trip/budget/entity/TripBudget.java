@@ -0,0 +1,44 @@
+package com.tripfriend.domain.trip.budget.entity;
+
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 여행 일정의 날짜 / 교통수단별 비용, 소요시간 집계 (세부 일정 변경 시 증분 갱신)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "trip_budget",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_trip_budget_bucket",
+                columnNames = {"trip_schedule_id", "budget_date", "transportation"}))
+public class TripBudget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "trip_budget_id")
+    private Long id;
+
+    @Column(name = "trip_schedule_id", nullable = false)
+    private Long tripScheduleId; // 여행 일정 ID
+
+    @Column(name = "budget_date", nullable = false)
+    private LocalDate budgetDate; // 방문 날짜
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transportation", nullable = false)
+    private Transportation transportation; // 교통 수단
+
+    @Column(name = "total_cost", nullable = false)
+    private long totalCost; // 비용 합계
+
+    @Column(name = "total_duration", nullable = false)
+    private int totalDuration; // 방문기간 합계(일 단위, TripInformation.duration 의 합)
+
+    @Column(name = "stop_count", nullable = false)
+    private int stopCount; // 세부 일정 수
+}
@@ -0,0 +1,70 @@
+package com.tripfriend.domain.trip.budget.repository;
+
+import com.tripfriend.domain.trip.budget.entity.TripBudget;
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TripBudgetRepository extends JpaRepository<TripBudget, Long> {
+
+    // 일정의 집계 행 조회 (날짜, 교통수단 순)
+    List<TripBudget> findByTripScheduleIdOrderByBudgetDateAscTransportationAsc(Long tripScheduleId);
+
+    // 일정의 총 비용 (집계 행만 읽음)
+    @Query("SELECT COALESCE(SUM(b.totalCost), 0) FROM TripBudget b WHERE b.tripScheduleId = :scheduleId")
+    long sumTotalCostByTripScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 여러 일정의 총 비용 [tripScheduleId, totalCost]
+    @Query("SELECT b.tripScheduleId, SUM(b.totalCost) FROM TripBudget b " +
+            "WHERE b.tripScheduleId IN :scheduleIds GROUP BY b.tripScheduleId")
+    List<Object[]> sumTotalCostGroupByTripScheduleIds(@Param("scheduleIds") List<Long> scheduleIds);
+
+    // 집계 행에 증감분 반영, 반영된 행 수 반환 (0 이면 아직 행이 없음)
+    @Modifying
+    @Query("UPDATE TripBudget b SET b.totalCost = b.totalCost + :cost, " +
+            "b.totalDuration = b.totalDuration + :duration, b.stopCount = b.stopCount + :count " +
+            "WHERE b.tripScheduleId = :scheduleId AND b.budgetDate = :date AND b.transportation = :transportation")
+    int addToBucket(@Param("scheduleId") Long scheduleId,
+                    @Param("date") LocalDate date,
+                    @Param("transportation") Transportation transportation,
+                    @Param("cost") long cost,
+                    @Param("duration") int duration,
+                    @Param("count") int count);
+
+    // 집계 행이 없으면 만들고 있으면 더한다 (한 문장이라 첫 세부 일정이 동시에 추가돼도 중복 키 오류가 나지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO trip_budget (trip_schedule_id, budget_date, transportation, total_cost, total_duration, stop_count) " +
+            "VALUES (:scheduleId, :date, :transportation, :cost, :duration, 1) " +
+            "ON DUPLICATE KEY UPDATE total_cost = total_cost + :cost, total_duration = total_duration + :duration, " +
+            "stop_count = stop_count + 1", nativeQuery = true)
+    int upsertBucket(@Param("scheduleId") Long scheduleId,
+                     @Param("date") LocalDate date,
+                     @Param("transportation") String transportation,
+                     @Param("cost") long cost,
+                     @Param("duration") int duration);
+
+    // 세부 일정은 있는데 집계 행이 하나도 없는 일정 ID (집계 도입 전에 만들어진 일정)
+    @Query("SELECT DISTINCT ti.tripSchedule.id FROM TripInformation ti " +
+            "WHERE NOT EXISTS (SELECT b.id FROM TripBudget b WHERE b.tripScheduleId = ti.tripSchedule.id)")
+    List<Long> findScheduleIdsWithoutBuckets();
+
+    // 세부 일정이 모두 빠진 집계 행 정리
+    @Modifying
+    @Query("DELETE FROM TripBudget b WHERE b.tripScheduleId = :scheduleId AND b.stopCount <= 0")
+    int deleteEmptyBuckets(@Param("scheduleId") Long scheduleId);
+
+    // 일정 삭제 시 집계 행 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TripBudget b WHERE b.tripScheduleId = :scheduleId")
+    int deleteByTripScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 회원 영구 삭제 시 회원 일정의 예산 집계 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TripBudget b WHERE b.tripScheduleId IN (SELECT ts.id FROM TripSchedule ts WHERE ts.member.id IN :memberIds)")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
+}
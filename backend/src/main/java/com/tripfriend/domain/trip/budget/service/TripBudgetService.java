@@ -0,0 +1,231 @@
+package com.tripfriend.domain.trip.budget.service;
+
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.member.member.service.AuthService;
+import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto;
+import com.tripfriend.domain.recruit.recruit.entity.Recruit;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.domain.trip.budget.dto.BudgetComparisonResDto;
+import com.tripfriend.domain.trip.budget.dto.TripBudgetResDto;
+import com.tripfriend.domain.trip.budget.entity.TripBudget;
+import com.tripfriend.domain.trip.budget.repository.TripBudgetRepository;
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import com.tripfriend.domain.trip.information.entity.TripInformation;
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository;
+import com.tripfriend.domain.trip.schedule.entity.TripSchedule;
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository;
+import com.tripfriend.global.exception.ServiceException;
+import com.tripfriend.global.init.InitDataSeededEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TripBudgetService {
+
+    private final TripBudgetRepository tripBudgetRepository;
+    private final TripInformationRepository tripInformationRepository;
+    private final TripScheduleRepository tripScheduleRepository;
+    private final RecruitRepository recruitRepository;
+    private final AuthService authService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 세부 일정은 있지만 집계 행이 없는 일정(집계 도입 전 데이터, 시드 데이터)의 집계를 채우는 메서드
+     * 서버 시작 시와 기본 데이터 시드 후에 실행한다. 일정마다 별도 트랜잭션으로 다시 계산한다.
+     */
+    @EventListener({ApplicationReadyEvent.class, InitDataSeededEvent.class}) // 시작 시, 준비 후 시드가 끝났을 때
+    public void backfill() {
+        List<Long> scheduleIds = tripBudgetRepository.findScheduleIdsWithoutBuckets();
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        scheduleIds.forEach(scheduleId -> transactionTemplate.executeWithoutResult(status -> rebuild(scheduleId)));
+        log.info("여행 예산 집계 채움: 일정 {}건", scheduleIds.size());
+    }
+
+    /**
+     * 세부 일정이 추가(또는 수정 후 값)될 때 집계에 더하는 메서드
+     *
+     * @param tripInformation 반영할 세부 일정
+     */
+    @Transactional
+    public void add(TripInformation tripInformation) {
+        apply(tripInformation, 1);
+    }
+
+    /**
+     * 세부 일정이 삭제(또는 수정 전 값)될 때 집계에서 빼는 메서드
+     * 엔티티 값을 바꾸기 전에 호출해야 한다.
+     *
+     * @param tripInformation 반영할 세부 일정
+     */
+    @Transactional
+    public void subtract(TripInformation tripInformation) {
+        apply(tripInformation, -1);
+        tripBudgetRepository.deleteEmptyBuckets(tripInformation.getTripSchedule().getId());
+    }
+
+    // 일정 삭제 시 집계 삭제
+    @Transactional
+    public void deleteBySchedule(Long tripScheduleId) {
+        tripBudgetRepository.deleteByTripScheduleId(tripScheduleId);
+    }
+
+    /**
+     * 세부 일정 원본으로 일정의 집계를 다시 계산하는 메서드
+     * 장소 삭제처럼 세부 일정이 cascade 로 지워져 증분 반영을 못 한 경우에 사용한다.
+     *
+     * @param tripScheduleId 다시 계산할 일정 ID
+     */
+    @Transactional
+    public void rebuild(Long tripScheduleId) {
+        tripBudgetRepository.deleteByTripScheduleId(tripScheduleId);
+
+        // 날짜, 교통수단별 {비용, 방문기간(일), 세부 일정 수}
+        Map<BucketKey, long[]> totals = new HashMap<>();
+        for (TripInformation info : tripInformationRepository.findByTripScheduleId(tripScheduleId)) {
+            long[] total = totals.computeIfAbsent(
+                    new BucketKey(info.getVisitTime().toLocalDate(), info.getTransportation()), k -> new long[3]);
+            total[0] += info.getCost();
+            total[1] += durationOf(info);
+            total[2]++;
+        }
+
+        List<TripBudget> rebuilt = totals.entrySet().stream()
+                .map(entry -> TripBudget.builder()
+                        .tripScheduleId(tripScheduleId)
+                        .budgetDate(entry.getKey().date())
+                        .transportation(entry.getKey().transportation())
+                        .totalCost(entry.getValue()[0])
+                        .totalDuration((int) entry.getValue()[1])
+                        .stopCount((int) entry.getValue()[2])
+                        .build())
+                .toList();
+        tripBudgetRepository.saveAll(rebuilt);
+    }
+
+    /**
+     * 일정의 예산 요약(전체, 날짜별, 교통수단별)을 조회하는 메서드
+     * 세부 일정을 읽지 않고 집계 행만 읽는다.
+     *
+     * @param tripScheduleId 조회할 일정 ID
+     * @param token          JWT 토큰
+     * @return 예산 요약 DTO
+     */
+    @Transactional(readOnly = true)
+    public TripBudgetResDto getBudget(Long tripScheduleId, String token) {
+        checkOwnSchedule(tripScheduleId, token);
+
+        List<TripBudget> buckets = tripBudgetRepository
+                .findByTripScheduleIdOrderByBudgetDateAscTransportationAsc(tripScheduleId);
+        return new TripBudgetResDto(tripScheduleId, buckets);
+    }
+
+    /**
+     * 일정 총 비용과 동행 모집글의 예산을 비교하는 메서드
+     *
+     * @param tripScheduleId 비교할 일정 ID
+     * @param recruitId      비교할 모집글 ID
+     * @param token          JWT 토큰
+     * @return 비교 결과 DTO
+     */
+    @Transactional(readOnly = true)
+    public BudgetComparisonResDto compareWithRecruit(Long tripScheduleId, Long recruitId, String token) {
+        checkOwnSchedule(tripScheduleId, token);
+
+        Recruit recruit = recruitRepository.findById(recruitId)
+                .orElseThrow(() -> new ServiceException("404-2", "해당 모집글이 존재하지 않습니다."));
+
+        long totalCost = tripBudgetRepository.sumTotalCostByTripScheduleId(tripScheduleId);
+        return new BudgetComparisonResDto(tripScheduleId, totalCost, recruitId, recruit.getBudget());
+    }
+
+    /**
+     * 일정 총 비용과 예산이 비슷한 모집 중인 동행 모집글을 조회하는 메서드
+     *
+     * @param tripScheduleId 기준 일정 ID
+     * @param marginPercent  허용 오차(%)
+     * @param token          JWT 토큰
+     * @return 예산 범위 안의 모집글 목록 (예산 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<RecruitListResponseDto> findRecruitsWithinBudget(Long tripScheduleId, int marginPercent, String token) {
+        checkOwnSchedule(tripScheduleId, token);
+
+        if (marginPercent < 0 || marginPercent > 100) {
+            throw new ServiceException("400-1", "허용 오차는 0 ~ 100 사이여야 합니다.");
+        }
+
+        long totalCost = tripBudgetRepository.sumTotalCostByTripScheduleId(tripScheduleId);
+        int minBudget = toBudget(totalCost * (100 - marginPercent) / 100);
+        int maxBudget = toBudget(totalCost * (100 + marginPercent) / 100);
+
+        return recruitRepository.findOpenByBudgetBetween(minBudget, maxBudget).stream()
+                .map(RecruitListResponseDto::new)
+                .toList();
+    }
+
+    // 일정 존재 여부와 본인 일정인지 확인
+    private void checkOwnSchedule(Long tripScheduleId, String token) {
+        Member member = authService.getLoggedInMember(token);
+        if (member == null) {
+            throw new ServiceException("401-2", "로그인이 필요합니다.");
+        }
+
+        TripSchedule schedule = tripScheduleRepository.findById(tripScheduleId)
+                .orElseThrow(() -> new ServiceException("404-1", "해당 일정이 존재하지 않습니다."));
+
+        if (!schedule.getMember().getId().equals(member.getId())) {
+            throw new ServiceException("403-1", "본인이 생성한 일정만 조회할 수 있습니다.");
+        }
+    }
+
+    // 세부 일정 하나를 부호에 맞춰 집계 행에 반영 (더할 때 행이 없으면 새로 만든다)
+    private void apply(TripInformation tripInformation, int sign) {
+        Long tripScheduleId = tripInformation.getTripSchedule().getId();
+        LocalDate date = tripInformation.getVisitTime().toLocalDate();
+        long cost = (long) tripInformation.getCost() * sign;
+        int duration = durationOf(tripInformation) * sign;
+
+        if (sign > 0) {
+            tripBudgetRepository.upsertBucket(
+                    tripScheduleId, date, tripInformation.getTransportation().name(), cost, duration);
+            return;
+        }
+
+        int updated = tripBudgetRepository.addToBucket(
+                tripScheduleId, date, tripInformation.getTransportation(), cost, duration, sign);
+        if (updated == 0) {
+            // 뺄 집계 행이 없으면 집계가 빠진 일정이므로 원본(아직 바뀌기 전 값 포함) 으로 다시 계산한 뒤 뺀다
+            rebuild(tripScheduleId);
+            tripBudgetRepository.addToBucket(
+                    tripScheduleId, date, tripInformation.getTransportation(), cost, duration, sign);
+        }
+    }
+
+    private int durationOf(TripInformation tripInformation) {
+        return tripInformation.getDuration() != null ? tripInformation.getDuration() : 0;
+    }
+
+    private int toBudget(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    private record BucketKey(LocalDate date, Transportation transportation) {
+    }
+}
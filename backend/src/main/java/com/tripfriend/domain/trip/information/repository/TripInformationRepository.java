@@ -1,12 +1,54 @@
 package com.tripfriend.domain.trip.information.repository;
 
 import com.tripfriend.domain.trip.information.entity.TripInformation;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TripInformationRepository extends JpaRepository<TripInformation, Long> {
 
     // 여행 일정 id에 따른 여행 정보 조회
     List<TripInformation> findByTripScheduleId(Long id);
+
+    // 특정 장소를 포함하는 여행 일정 id 조회
+    @Query("SELECT DISTINCT ti.tripSchedule.id FROM TripInformation ti WHERE ti.place.id = :placeId")
+    List<Long> findDistinctTripScheduleIdsByPlaceId(@Param("placeId") Long placeId);
+
+    // 여행지 삭제 시 해당 여행지의 세부 일정 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TripInformation ti WHERE ti.place.id = :placeId")
+    int deleteByPlaceId(@Param("placeId") Long placeId);
+
+    // 여행 일정 id에 따른 여행 정보 스트리밍 조회 (내보내기용, 전방향 커서)
+    // MySQL 은 useCursorFetch=true 여야 fetch size 만큼씩 읽는다 (application-prod.yml)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ti FROM TripInformation ti JOIN FETCH ti.place JOIN FETCH ti.tripSchedule ts " +
+            "WHERE ts.id = :scheduleId ORDER BY ti.visitTime")
+    Stream<TripInformation> streamByTripScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 회원의 전체 여행 정보 스트리밍 조회 (내보내기용, 전방향 커서)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ti FROM TripInformation ti JOIN FETCH ti.place JOIN FETCH ti.tripSchedule ts " +
+            "WHERE ts.member.id = :memberId ORDER BY ts.startDate, ts.id, ti.visitTime")
+    Stream<TripInformation> streamByMemberId(@Param("memberId") Long memberId);
+
+    // 회원 영구 삭제 시 회원 일정의 세부 일정 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TripInformation ti WHERE ti.tripSchedule.id IN (SELECT ts.id FROM TripSchedule ts WHERE ts.member.id IN :memberIds)")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
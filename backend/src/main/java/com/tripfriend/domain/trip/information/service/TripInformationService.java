@@ -4,6 +4,7 @@ import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.place.place.entity.Place;
 import com.tripfriend.domain.place.place.repository.PlaceRepository;
+import com.tripfriend.domain.trip.budget.service.TripBudgetService;
 import com.tripfriend.domain.trip.information.dto.TripInformationReqDto;
 import com.tripfriend.domain.trip.information.dto.TripInformationResDto;
 import com.tripfriend.domain.trip.information.dto.TripInformationUpdateReqDto;
@@ -28,6 +29,7 @@ public class TripInformationService {
     private final TripScheduleRepository tripScheduleRepository;
     private final PlaceRepository placeRepository;
     private final AuthService authService;
+    private final TripBudgetService tripBudgetService;
 
     /**
      * 현재 로그인한 회원객체를 반환하는 메서드
@@ -103,6 +105,7 @@ public class TripInformationService {
                 .build();
         information.setTripSchedule(schedule);
         tripInformationRepository.save(information);
+        tripBudgetService.add(information); // 예산 집계 반영
         return new TripInformationResDto(information);
     }
 
@@ -137,6 +140,7 @@ public class TripInformationService {
 
         // 생성된 TripInformation 목록 저장
         tripInformationRepository.saveAll(tripInformations);
+        tripInformations.forEach(tripBudgetService::add); // 예산 집계 반영
 
         // 여행 일정에 TripInformation 추가
         schedule.addTripInformations(tripInformations);
@@ -155,8 +159,10 @@ public class TripInformationService {
         TripInformation tripInformation = tripInformationRepository.findById(tripInfoId)
                 .orElseThrow(() -> new ServiceException("404-3", "해당 여행 정보가 존재하지 않습니다."));
 
-        // 여행 정보 업데이트, DTO로 전달
+        // 여행 정보 업데이트, DTO로 전달 (수정 전 값을 집계에서 빼고 수정 후 값을 더한다)
+        tripBudgetService.subtract(tripInformation);
         tripInformation.updateTripInformation(req);
+        tripBudgetService.add(tripInformation);
 
         return tripInformation;
     }
@@ -165,6 +171,7 @@ public class TripInformationService {
     @Transactional
     public void deleteTripInformation(Long tripInformationId, String token) {
         TripInformation tripInformation = checkInfo(tripInformationId, token);
+        tripBudgetService.subtract(tripInformation); // 예산 집계 반영
         tripInformationRepository.delete(tripInformation);
     }
 
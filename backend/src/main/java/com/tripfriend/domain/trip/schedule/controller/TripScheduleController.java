@@ -5,6 +5,7 @@ import com.tripfriend.domain.member.member.repository.MemberRepository;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.trip.schedule.dto.*;
 import com.tripfriend.domain.trip.schedule.entity.TripSchedule;
+import com.tripfriend.domain.trip.schedule.service.TripScheduleExportService;
 import com.tripfriend.domain.trip.schedule.service.TripScheduleService;
 import com.tripfriend.global.annotation.CheckPermission;
 import com.tripfriend.global.dto.RsData;
@@ -13,11 +14,14 @@ import com.tripfriend.global.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -27,6 +31,7 @@ import java.util.List;
 public class TripScheduleController {
 
     private final TripScheduleService scheduleService;
+    private final TripScheduleExportService exportService;
     private final AuthService authService;
 
 
@@ -87,6 +92,31 @@ public class TripScheduleController {
         );
     }
 
+    // 로그인한 회원의 전체 여행 일정 내보내기 (ics / csv / ndjson)
+    @GetMapping("/my-schedules/export")
+    @Operation(summary = "나의 여행 일정 전체 내보내기", description = "나의 모든 일정을 iCalendar, CSV, NDJSON 형식으로 내려받습니다.")
+    public void exportMySchedules(@RequestHeader(value = "Authorization", required = false) String token,
+                                  @RequestParam(value = "format", required = false) String format,
+                                  HttpServletResponse response) throws IOException {
+
+        Member member = scheduleService.getLoggedInMember(token);
+        writeExport(member, null, TripExportFormat.from(format), response);
+    }
+
+    // 로그인한 회원의 여행 일정 단건 내보내기 (ics / csv / ndjson)
+    @GetMapping("/my-schedules/{id}/export")
+    @Operation(summary = "나의 여행 일정 내보내기", description = "선택한 일정을 iCalendar, CSV, NDJSON 형식으로 내려받습니다.")
+    public void exportMySchedule(@RequestHeader(value = "Authorization", required = false) String token,
+                                 @PathVariable Long id,
+                                 @RequestParam(value = "format", required = false) String format,
+                                 HttpServletResponse response) throws IOException {
+
+        Member member = scheduleService.getLoggedInMember(token);
+        TripExportFormat exportFormat = TripExportFormat.from(format);
+        exportService.checkOwnSchedule(member, id);
+        writeExport(member, id, exportFormat, response);
+    }
+
     // 특정 회원의 여행 일정 조회 - 관리자 권한 필요
     @GetMapping("/member/{memberId}")
     @CheckPermission("ADMIN")
@@ -147,4 +177,16 @@ public class TripScheduleController {
         );
     }
 
+    // 검증이 끝난 뒤에 응답 헤더를 설정하고 출력 스트림으로 바로 내려보낸다
+    private void writeExport(Member member, Long scheduleId, TripExportFormat format,
+                             HttpServletResponse response) throws IOException {
+        String fileName = (scheduleId != null ? "trip-schedule-" + scheduleId : "trip-schedules") + "." + format.getExtension();
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        exportService.export(member, scheduleId, format, response.getOutputStream());
+    }
+
 }
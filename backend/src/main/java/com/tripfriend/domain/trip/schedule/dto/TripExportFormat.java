@@ -0,0 +1,33 @@
+package com.tripfriend.domain.trip.schedule.dto;
+
+import com.tripfriend.global.exception.ServiceException;
+import lombok.Getter;
+
+@Getter
+public enum TripExportFormat {
+
+    ICS("text/calendar", "ics"), // iCalendar
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"); // JSON lines
+
+    private final String contentType;
+    private final String extension;
+
+    TripExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    // 요청 파라미터 문자열을 내보내기 형식으로 변환
+    public static TripExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return ICS;
+        }
+        for (TripExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ServiceException("400-3", "지원하지 않는 내보내기 형식입니다.");
+    }
+}
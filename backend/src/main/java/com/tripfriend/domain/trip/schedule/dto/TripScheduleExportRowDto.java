@@ -0,0 +1,36 @@
+package com.tripfriend.domain.trip.schedule.dto;
+
+import com.tripfriend.domain.trip.information.entity.Transportation;
+import com.tripfriend.domain.trip.information.entity.TripInformation;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TripScheduleExportRowDto { // 일정 내보내기 한 줄(세부 일정 단위) DTO
+    private final Long scheduleId;
+    private final String scheduleTitle;
+    private final Long tripInformationId;
+    private final String cityName;
+    private final String placeName;
+    private final LocalDateTime visitTime;
+    private final int duration;
+    private final Transportation transportation;
+    private final int cost;
+    private final String notes;
+    private final boolean isVisited;
+
+    public TripScheduleExportRowDto(TripInformation tripInformation) {
+        this.scheduleId = tripInformation.getTripSchedule().getId();
+        this.scheduleTitle = tripInformation.getTripSchedule().getTitle();
+        this.tripInformationId = tripInformation.getId();
+        this.cityName = tripInformation.getPlace().getCityName();
+        this.placeName = tripInformation.getPlace().getPlaceName();
+        this.visitTime = tripInformation.getVisitTime();
+        this.duration = tripInformation.getDuration();
+        this.transportation = tripInformation.getTransportation();
+        this.cost = tripInformation.getCost();
+        this.notes = tripInformation.getNotes();
+        this.isVisited = tripInformation.isVisited();
+    }
+}
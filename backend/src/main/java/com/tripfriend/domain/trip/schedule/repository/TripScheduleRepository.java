@@ -2,6 +2,9 @@ package com.tripfriend.domain.trip.schedule.repository;
 
 import com.tripfriend.domain.trip.schedule.entity.TripSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,4 +12,9 @@ public interface TripScheduleRepository extends JpaRepository<TripSchedule, Long
 
     // 특정 회원이 등록한 모든 여행 일정 조회
     List<TripSchedule> findByMemberId(Long memberId);
+
+    // 회원 영구 삭제 시 회원 일정 일괄 삭제 (세부 일정을 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM TripSchedule ts WHERE ts.member.id IN :memberIds")
+    int deleteByMemberIds(@Param("memberIds") List<Long> memberIds);
 }
@@ -0,0 +1,209 @@
+package com.tripfriend.domain.trip.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.trip.information.entity.TripInformation;
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository;
+import com.tripfriend.domain.trip.schedule.dto.TripExportFormat;
+import com.tripfriend.domain.trip.schedule.dto.TripScheduleExportRowDto;
+import com.tripfriend.domain.trip.schedule.entity.TripSchedule;
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository;
+import com.tripfriend.global.annotation.MeasureTime;
+import com.tripfriend.global.exception.ServiceException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TripScheduleExportService {
+
+    private static final int FLUSH_INTERVAL = 100; // 몇 건마다 출력 스트림과 영속성 컨텍스트를 비울지
+    private static final String CRLF = "\r\n"; // iCalendar 줄바꿈 규칙
+    private static final int ICS_LINE_OCTETS = 75; // iCalendar 한 줄 최대 길이 (줄바꿈 제외, UTF-8 바이트)
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter ICS_UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final TripScheduleRepository tripScheduleRepository;
+    private final TripInformationRepository tripInformationRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보낼 일정이 로그인한 회원의 일정인지 확인하는 메서드
+     * 응답 헤더를 쓰기 전에 호출해야 예외가 JSON 응답으로 내려간다.
+     *
+     * @param member     로그인한 회원
+     * @param scheduleId 내보낼 일정 ID
+     * @throws ServiceException 일정이 없거나 본인 일정이 아닌 경우 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public void checkOwnSchedule(Member member, Long scheduleId) {
+        TripSchedule schedule = tripScheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new ServiceException("404-1", "해당 일정이 존재하지 않습니다."));
+
+        if (!schedule.getMember().getId().equals(member.getId())) {
+            throw new ServiceException("403-1", "본인이 생성한 일정만 내보낼 수 있습니다.");
+        }
+    }
+
+    /**
+     * 여행 일정을 전방향 커서로 읽으면서 출력 스트림에 바로 기록하는 메서드
+     * 전체 목록을 메모리에 만들지 않으므로 일정이 많아도 힙 사용량이 일정하다.
+     *
+     * @param member     로그인한 회원
+     * @param scheduleId 내보낼 일정 ID (null 이면 회원의 전체 일정)
+     * @param format     내보내기 형식
+     * @param out        응답 출력 스트림
+     */
+    @MeasureTime
+    @Transactional(readOnly = true)
+    public void export(Member member, Long scheduleId, TripExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TripInformation> rows = scheduleId != null
+                ? tripInformationRepository.streamByTripScheduleId(scheduleId)
+                : tripInformationRepository.streamByMemberId(member.getId())) {
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeHeader(writer, format);
+
+            Iterator<TripInformation> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                writeRow(writer, format, iterator.next());
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                    entityManager.clear(); // 이미 기록한 엔티티는 영속성 컨텍스트에서 제거
+                }
+            }
+
+            writeFooter(writer, format);
+            writer.flush();
+        }
+    }
+
+    private void writeHeader(Writer writer, TripExportFormat format) throws IOException {
+        switch (format) {
+            case ICS -> writer.write("BEGIN:VCALENDAR" + CRLF
+                    + "VERSION:2.0" + CRLF
+                    + "PRODID:-//TripFriend//Trip Schedule Export//KO" + CRLF
+                    + "CALSCALE:GREGORIAN" + CRLF);
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            case CSV -> writer.write("\uFEFFschedule_id,schedule_title,trip_information_id,city_name,place_name,"
+                    + "visit_time,duration,transportation,cost,notes,is_visited\n");
+            case NDJSON -> {
+            }
+        }
+    }
+
+    private void writeRow(Writer writer, TripExportFormat format, TripInformation tripInformation) throws IOException {
+        TripScheduleExportRowDto row = new TripScheduleExportRowDto(tripInformation);
+
+        switch (format) {
+            case ICS -> writeIcsEvent(writer, row);
+            case CSV -> writer.write(String.join(",",
+                    String.valueOf(row.getScheduleId()),
+                    csv(row.getScheduleTitle()),
+                    String.valueOf(row.getTripInformationId()),
+                    csv(row.getCityName()),
+                    csv(row.getPlaceName()),
+                    String.valueOf(row.getVisitTime()),
+                    String.valueOf(row.getDuration()),
+                    String.valueOf(row.getTransportation()),
+                    String.valueOf(row.getCost()),
+                    csv(row.getNotes()),
+                    String.valueOf(row.isVisited())) + "\n");
+            case NDJSON -> writer.write(objectMapper.writeValueAsString(row) + "\n");
+        }
+    }
+
+    private void writeFooter(Writer writer, TripExportFormat format) throws IOException {
+        if (format == TripExportFormat.ICS) {
+            writer.write("END:VCALENDAR" + CRLF);
+        }
+    }
+
+    // 세부 일정 하나를 VEVENT 로 기록 (duration 은 날짜 단위, 방문 시간은 현지 시각 그대로)
+    private void writeIcsEvent(Writer writer, TripScheduleExportRowDto row) throws IOException {
+        LocalDateTime start = row.getVisitTime();
+        LocalDateTime end = start.plusDays(row.getDuration());
+
+        writer.write("BEGIN:VEVENT" + CRLF);
+        writer.write(icsLine("UID:trip-information-" + row.getTripInformationId() + "@tripfriend"));
+        writer.write(icsLine("DTSTAMP:" + ICS_UTC_DATE_TIME.format(Instant.now())));
+        writer.write(icsLine("DTSTART:" + start.format(ICS_DATE_TIME)));
+        writer.write(icsLine("DTEND:" + end.format(ICS_DATE_TIME)));
+        writer.write(icsLine("SUMMARY:" + ics(row.getPlaceName() + " - " + row.getScheduleTitle())));
+        writer.write(icsLine("LOCATION:" + ics(row.getCityName())));
+        writer.write(icsLine("DESCRIPTION:" + ics("교통: " + row.getTransportation()
+                + " / 비용: " + row.getCost()
+                + (row.getNotes() != null ? " / " + row.getNotes() : ""))));
+        writer.write("END:VEVENT" + CRLF);
+    }
+
+    // 75 바이트를 넘는 줄은 CRLF + 공백으로 접는다 (RFC 5545 3.1, 한글 등 멀티바이트 문자는 자르지 않음)
+    private String icsLine(String line) {
+        StringBuilder folded = new StringBuilder(line.length() + CRLF.length());
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int length = utf8Length(codePoint);
+            if (octets + length > ICS_LINE_OCTETS) {
+                folded.append(CRLF).append(' ');
+                octets = 1; // 이어지는 줄의 앞 공백
+            }
+            folded.appendCodePoint(codePoint);
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        return folded.append(CRLF).toString();
+    }
+
+    private int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    // iCalendar TEXT 값 이스케이프
+    private String ics(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // CSV 필드 이스케이프 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다)
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
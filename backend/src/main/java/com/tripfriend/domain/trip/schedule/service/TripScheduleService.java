@@ -5,6 +5,7 @@ import com.tripfriend.domain.member.member.repository.MemberRepository;
 import com.tripfriend.domain.member.member.service.AuthService;
 import com.tripfriend.domain.place.place.entity.Place;
 import com.tripfriend.domain.place.place.repository.PlaceRepository;
+import com.tripfriend.domain.trip.budget.service.TripBudgetService;
 import com.tripfriend.domain.trip.information.dto.TripInformationReqDto;
 import com.tripfriend.domain.trip.information.dto.TripInformationResDto;
 import com.tripfriend.domain.trip.information.entity.TripInformation;
@@ -33,6 +34,7 @@ public class TripScheduleService {
     private final TripInformationRepository tripInformationRepository;
     private final AuthService authService;
     private final PlaceRepository placeRepository;
+    private final TripBudgetService tripBudgetService;
 
     /**
      * 현재 로그인한 회원객체를 반환하는 메서드
@@ -198,6 +200,7 @@ public class TripScheduleService {
             throw new ServiceException("403-1", "본인이 생성한 일정만 삭제할 수 있습니다.");
         }
 
+        tripBudgetService.deleteBySchedule(scheduleId); // 예산 집계 삭제
         tripScheduleRepository.delete(schedule);
     }
 
@@ -249,7 +252,10 @@ public class TripScheduleService {
                         throw new ServiceException("403-2", "본인이 생성한 일정의 여행 정보만 수정할 수 있습니다.");
                     }
 
+                    // 수정 전 값을 예산 집계에서 빼고 수정 후 값을 더한다
+                    tripBudgetService.subtract(tripInfo);
                     tripInfo.updateTripInformation(infoUpdate);
+                    tripBudgetService.add(tripInfo);
                     return tripInfo;
                 })
                 .toList();
@@ -0,0 +1,14 @@
+package com.tripfriend.global.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 요청(또는 테스트) 하나에서 실행할 수 있는 SQL 문 수
+ * 컨트롤러 메서드에 붙이면 기본 한도 대신 이 값으로 경고하고,
+ * 테스트 메서드에 붙이면 MaxQueriesExtension 이 넘을 때 테스트를 실패시킨다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface MaxQueries {
+    int value(); // 허용하는 SQL 문 수
+}
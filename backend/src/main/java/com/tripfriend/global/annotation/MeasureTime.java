@@ -0,0 +1,9 @@
+package com.tripfriend.global.annotation;
+
+import java.lang.annotation.*;
+
+// 실행 시간을 app.method 로 측정할 서비스 메서드 (클래스에 붙이면 모든 public 메서드, 컨트롤러는 붙이지 않아도 측정)
+@Retention(RetentionPolicy.RUNTIME) // 런타임까지 유지
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface MeasureTime {
+}
@@ -0,0 +1,68 @@
+package com.tripfriend.global.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드와 @MeasureTime 을 붙인 서비스 메서드의 실행 시간 측정 (app.method)
+ * 모든 서비스에 걸면 인증마다 호출되는 가벼운 메서드(블랙리스트 확인 등)까지 비용을 치르므로 서비스는 선택해서 측정한다.
+ * Timer 는 메서드 / 예외별로 한 번만 만들어 재사용하고, 백분위수는 서버에서 계산하도록 히스토그램만 내보낸다. (application.yml)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    static final String METRIC_NAME = "app.method";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "controller");
+    }
+
+    @Around("@annotation(com.tripfriend.global.annotation.MeasureTime) || @within(com.tripfriend.global.annotation.MeasureTime)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "service");
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long startedAt = System.nanoTime();
+        Class<?> exception = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass();
+            throw e;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timers.computeIfAbsent(new TimerKey(method, exception, layer), this::register)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .tag("layer", key.layer())
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("exception", key.exception() == null ? "none" : key.exception().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Method method, Class<?> exception, String layer) {
+    }
+}
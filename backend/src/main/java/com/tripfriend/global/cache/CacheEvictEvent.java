@@ -0,0 +1,10 @@
+package com.tripfriend.global.cache;
+
+/**
+ * 캐시 데이터가 바뀌었음을 알리는 이벤트
+ * 쓰기 메서드에서 발행하면 트랜잭션 커밋 후 CacheEvictListener 가 해당 캐시를 비운다.
+ *
+ * @param cacheNames 비울 캐시 이름
+ */
+public record CacheEvictEvent(String... cacheNames) {
+}
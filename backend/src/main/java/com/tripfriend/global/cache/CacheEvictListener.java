@@ -0,0 +1,26 @@
+package com.tripfriend.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋 후에 캐시를 비워서, 커밋 전 데이터를 다른 요청이 다시 캐시에 올리는 일이 없게 한다
+@Component
+@RequiredArgsConstructor
+public class CacheEvictListener {
+
+    private final CacheManager cacheManager;
+
+    // 트랜잭션 밖에서 발행된 경우에는 바로 실행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCacheEvict(CacheEvictEvent event) {
+        for (String cacheName : event.cacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.tripfriend.global.cache;
+
+// 캐시 이름 모음 (@Cacheable, CacheEvictEvent 에서 같은 이름을 쓰도록)
+public final class CacheNames {
+
+    public static final String RECENT_RECRUITS = "feed:recent-recruits";
+    public static final String POPULAR_REVIEWS = "feed:popular-reviews";
+    public static final String NOTICES = "feed:notices";
+    public static final String EVENTS = "feed:events";
+    public static final String EVENT_CALENDAR = "feed:event-calendar"; // 월(yyyy-MM)별 이벤트
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,216 @@
+package com.tripfriend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * 서버 메모리(1차) + Redis(2차) 캐시
+ * 조회는 메모리 -> Redis -> DB 순으로 하고, 같은 키를 동시에 조회하면
+ * 서버 안에서는 Caffeine 이, 서버 사이에서는 Redis 락이 한 요청만 DB 를 읽게 한다.
+ * 변경 / 삭제는 Redis 에 반영한 뒤 다른 서버의 1차 캐시도 비우도록 알린다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final Duration LOAD_LOCK_TTL = Duration.ofSeconds(5);
+    private static final long WAIT_INTERVAL_MILLIS = 50;
+    private static final long MAX_WAIT_MILLIS = 2_000; // 락을 가진 서버가 이 시간 안에 못 채우면 직접 읽는다
+
+    // 내가 잡은 락일 때만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RedisCache remote;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TwoLevelCacheManager cacheManager;
+
+    // 적중률 (cache.gets, result = local_hit / remote_hit / miss)
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+
+    TwoLevelCache(String name, Cache<String, Object> local, RedisCache remote,
+                  StringRedisTemplate stringRedisTemplate, TwoLevelCacheManager cacheManager, MeterRegistry meterRegistry) {
+        super(false); // null 은 캐시하지 않음
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheManager = cacheManager;
+        this.localHits = meterRegistry.counter("cache.gets", "cache", name, "result", "local_hit");
+        this.remoteHits = meterRegistry.counter("cache.gets", "cache", name, "result", "remote_hit");
+        this.misses = meterRegistry.counter("cache.gets", "cache", name, "result", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            misses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    // @Cacheable(sync = true) 에서 호출된다
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = local.getIfPresent(toLocalKey(key));
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached;
+        }
+
+        try {
+            // 같은 서버에서 같은 키를 동시에 요청하면 한 스레드만 아래 함수를 실행하고 나머지는 결과를 기다린다
+            return (T) local.get(toLocalKey(key), localKey -> loadThroughRemote(key, valueLoader));
+        } catch (ValueRetrievalException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remote.put(key, value);
+        local.put(toLocalKey(key), value);
+        cacheManager.publishEviction(name, toLocalKey(key)); // 다른 서버의 이전 값 제거
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(toLocalKey(key));
+        cacheManager.publishEviction(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        cacheManager.publishEviction(name, null);
+    }
+
+    // 다른 서버에서 변경된 경우 1차 캐시만 비운다
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private Object loadThroughRemote(Object key, Callable<?> valueLoader) {
+        ValueWrapper cached = remote.get(key);
+        if (cached != null && cached.get() != null) {
+            remoteHits.increment();
+            return cached.get();
+        }
+        misses.increment();
+
+        // 여러 서버가 동시에 비어 있는 키를 조회하면 락을 잡은 서버만 DB 를 읽고 나머지는 Redis 에 채워지길 기다린다
+        String lockKey = "lock:cache:" + name + ":" + toLocalKey(key);
+        String owner = UUID.randomUUID().toString();
+        boolean acquired = tryLock(lockKey, owner);
+        if (!acquired) {
+            Object filled = waitForRemote(key);
+            if (filled != null) {
+                return filled;
+            }
+        }
+
+        try {
+            Object value = valueLoader.call();
+            if (value != null) {
+                remote.put(key, value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            if (acquired) {
+                releaseLock(lockKey, owner);
+            }
+        }
+    }
+
+    private Object waitForRemote(Object key) {
+        long deadline = System.currentTimeMillis() + MAX_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(WAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                return wrapper.get();
+            }
+        }
+        return null;
+    }
+
+    // Redis 장애 시에는 락 없이 직접 읽는다
+    private boolean tryLock(String lockKey, String owner) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, owner, LOAD_LOCK_TTL));
+        } catch (Exception e) {
+            log.warn("캐시 적재 락 획득 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock(String lockKey, String owner) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), owner);
+        } catch (Exception e) {
+            log.warn("캐시 적재 락 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    // Redis 키와 같은 방식(toString)으로 1차 캐시 키를 만든다
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tripfriend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoLevelCache 를 만들어 주는 캐시 매니저
+ * 한 서버에서 캐시가 바뀌면 Redis 채널로 알려 다른 서버의 1차 캐시를 비운다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "cache:evict";
+    private static final Duration DEFAULT_LOCAL_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_MAXIMUM_SIZE = 1_000;
+    private static final String SEPARATOR = "\n";
+    private static final String ALL_KEYS = ""; // clear()
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Duration> localTtls;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final String instanceId = UUID.randomUUID().toString(); // 자기 자신이 보낸 알림 구분용
+
+    /**
+     * @param redisCacheManager   2차 캐시(캐시별 TTL 설정 포함)
+     * @param stringRedisTemplate 알림 발행, 적재 락용
+     * @param localTtls           캐시별 1차 캐시 TTL (없으면 30초)
+     * @param meterRegistry       캐시 적중률 기록
+     */
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                                Map<String, Duration> localTtls, MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localTtls = localTtls;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(localTtls.getOrDefault(cacheName, DEFAULT_LOCAL_TTL))
+                        .maximumSize(LOCAL_MAXIMUM_SIZE)
+                        .build(),
+                (RedisCache) redisCacheManager.getCache(cacheName),
+                stringRedisTemplate,
+                this,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    // 다른 서버에 1차 캐시 제거 요청 (key 가 null 이면 전체)
+    void publishEviction(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? ALL_KEYS : key));
+        } catch (Exception e) {
+            log.warn("캐시 제거 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2].equals(ALL_KEYS) ? null : parts[2]);
+        }
+    }
+}
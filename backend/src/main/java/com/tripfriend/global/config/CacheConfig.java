@@ -0,0 +1,74 @@
+package com.tripfriend.global.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tripfriend.global.cache.CacheNames;
+import com.tripfriend.global.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 캐시별 TTL (1차: 서버 메모리, 2차: Redis)
+    private static final Map<String, Duration> LOCAL_TTLS = Map.of(
+            CacheNames.RECENT_RECRUITS, Duration.ofSeconds(30),
+            CacheNames.POPULAR_REVIEWS, Duration.ofMinutes(1),
+            CacheNames.NOTICES, Duration.ofMinutes(1),
+            CacheNames.EVENTS, Duration.ofMinutes(1),
+            CacheNames.EVENT_CALENDAR, Duration.ofMinutes(5)
+    );
+    private static final Map<String, Duration> REMOTE_TTLS = Map.of(
+            CacheNames.RECENT_RECRUITS, Duration.ofMinutes(5),
+            CacheNames.POPULAR_REVIEWS, Duration.ofMinutes(10), // 조회수 변화는 만료로만 반영
+            CacheNames.NOTICES, Duration.ofMinutes(30),
+            CacheNames.EVENTS, Duration.ofMinutes(30),
+            CacheNames.EVENT_CALENDAR, Duration.ofHours(6) // 변경 시에는 CacheEvictEvent 로 비운다
+    );
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             MeterRegistry meterRegistry) {
+        // 값에 클래스 정보를 함께 저장해 DTO 목록을 그대로 복원한다
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        serializer.configure(objectMapper -> objectMapper
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith("cache:")
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(100))) // clear() 에 KEYS 대신 SCAN 사용
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(REMOTE_TTLS.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> defaults.entryTtl(entry.getValue()))))
+                .build();
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, LOCAL_TTLS, meterRegistry);
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        return cacheManager;
+    }
+}
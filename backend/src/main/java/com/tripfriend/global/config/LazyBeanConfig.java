@@ -0,0 +1,49 @@
+package com.tripfriend.global.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 자주 쓰지 않는 빈(Swagger, 메일, OAuth2 클라이언트) 을 처음 쓸 때 만든다
+ * custom.startup.lazy-bean-packages 로 시작하는 클래스(또는 @Bean 메서드가 선언된 설정 클래스) 의 빈에 lazy 를 건다.
+ * 다른 빈이 시작 시점에 주입받으면 그때 만들어지므로, 주입하는 쪽에서 @Lazy 로 받아야 효과가 있다.
+ */
+@Configuration
+public class LazyBeanConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeanPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("custom.startup.lazy-bean-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String source = sourceClassName(definition);
+                if (source != null && packages.stream().anyMatch(source::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // @Bean 메서드로 등록된 빈은 메서드가 선언된 클래스 기준
+    private static String sourceClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
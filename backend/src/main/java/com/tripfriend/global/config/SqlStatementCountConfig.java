@@ -0,0 +1,17 @@
+package com.tripfriend.global.config;
+
+import com.tripfriend.global.sql.CountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 요청별 SQL 실행 수 집계를 위해 Hibernate 에 StatementInspector 등록
+@Configuration
+public class SqlStatementCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+}
@@ -0,0 +1,94 @@
+package com.tripfriend.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시간 보고서
+ * 서버가 준비되면 BufferingApplicationStartup 에 쌓인 단계별 소요 시간 중 오래 걸린 단계를 로그로 남기고,
+ * custom.startup.report-file 이 있으면 전체 단계를 JSON 으로 저장한다 (릴리스마다 비교용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupReportWriter {
+
+    private static final int TOP_STEPS = 10;
+
+    private final ApplicationStartup applicationStartup;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.startup.report-file:}")
+    private String reportFile;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup)) {
+            return;
+        }
+
+        StartupTimeline timeline = bufferingStartup.drainBufferedTimeline(); // 기록을 비워 메모리 반환
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : timeline.getEvents()) {
+            StartupStep step = timelineEvent.getStartupStep();
+            Map<String, Object> tags = new LinkedHashMap<>();
+            step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", step.getId());
+            row.put("parentId", step.getParentId());
+            row.put("name", step.getName());
+            row.put("durationMillis", timelineEvent.getDuration().toMillis());
+            row.put("tags", tags);
+            steps.add(row);
+        }
+
+        Duration total = event.getTimeTaken();
+        log.info("시작 시간 {}ms, 오래 걸린 단계:", total.toMillis());
+        steps.stream()
+                .sorted(Comparator.comparingLong((Map<String, Object> row) -> (long) row.get("durationMillis")).reversed())
+                .limit(TOP_STEPS)
+                .forEach(row -> log.info("  {}ms {} {}", row.get("durationMillis"), row.get("name"), row.get("tags")));
+
+        if (!reportFile.isBlank()) {
+            write(total, timeline, steps);
+        }
+    }
+
+    private void write(Duration total, StartupTimeline timeline, List<Map<String, Object>> steps) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startTime", timeline.getStartTime().toString());
+        report.put("totalMillis", total.toMillis());
+        report.put("steps", steps);
+
+        try {
+            Path path = Path.of(reportFile);
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+            log.info("시작 시간 보고서 저장: {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("시작 시간 보고서 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.tripfriend.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PageResponseDto<T> {
+
+    private List<T> content;
+    private int page; // 0 부터 시작
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean hasNext;
+
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.hasNext());
+    }
+}
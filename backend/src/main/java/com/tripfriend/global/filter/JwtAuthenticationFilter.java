@@ -1,6 +1,8 @@
 package com.tripfriend.global.filter;
 
+import com.tripfriend.domain.blacklist.service.BlacklistIndexService;
 import com.tripfriend.global.security.CustomUserDetailsService;
+import com.tripfriend.global.security.PrincipalDetails;
 import com.tripfriend.global.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -28,9 +30,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
     private final RedisTemplate<String, String> redisTemplate;
+    private final BlacklistIndexService blacklistIndexService;
 
     private static final String REDIS_BLACKLIST_PREFIX = "blacklist:";
 
+    // 모니터링 요청은 토큰 확인 없이 통과
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -66,6 +75,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 if (username != null && Boolean.TRUE.equals(isVerified)) {
                     // UserDetails 객체 생성 (DB에서 사용자 정보 조회)
                     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+                    // 블랙리스트 회원 차단 (메모리 집합 확인)
+                    if (userDetails instanceof PrincipalDetails principal
+                            && blacklistIndexService.contains(principal.getMember().getId())) {
+                        response.sendError(HttpServletResponse.SC_FORBIDDEN, "블랙리스트에 등록된 회원입니다.");
+                        return;
+                    }
+
                     List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + authority));
 
                     // UserDetails 기반으로 Authentication 객체 생성
@@ -0,0 +1,62 @@
+package com.tripfriend.global.filter;
+
+import com.tripfriend.global.ratelimit.RateLimitPolicy;
+import com.tripfriend.global.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 로그인 / 이메일 인증 / 중복 확인 요청을 IP 별로 제한 (인증 필터, BCrypt, 메일 발송보다 먼저 거절)
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitPolicy policy = resolvePolicy(request);
+        if (policy != null) {
+            // prod 는 server.forward-headers-strategy: native 로 프록시 뒤의 실제 클라이언트 IP 가 들어온다
+            long retryAfterMillis = rateLimiter.tryAcquire(policy, request.getRemoteAddr());
+            if (retryAfterMillis > 0) {
+                long retryAfterSeconds = RateLimiter.toSeconds(retryAfterMillis);
+                response.setStatus(429);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                response.getWriter().write("{\"code\":\"429-1\",\"msg\":\"요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.\"}");
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitPolicy resolvePolicy(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String method = request.getMethod();
+
+        if ("POST".equals(method) && uri.endsWith("/member/login")) {
+            return RateLimitPolicy.LOGIN_IP;
+        }
+        if ("GET".equals(method) && uri.endsWith("/member/auth/verify-email")) {
+            return RateLimitPolicy.EMAIL_SEND_IP;
+        }
+        if ("POST".equals(method) && uri.endsWith("/member/auth/email")) {
+            return RateLimitPolicy.EMAIL_VERIFY_IP;
+        }
+        if ("GET".equals(method) && uri.endsWith("/member/availability")) {
+            return RateLimitPolicy.AVAILABILITY_IP;
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package com.tripfriend.global.init;
 
 import com.tripfriend.domain.blacklist.entity.Blacklist;
 import com.tripfriend.domain.blacklist.repository.BlacklistRepository;
+import com.tripfriend.domain.blacklist.service.BlacklistIndexService;
 import com.tripfriend.domain.member.member.entity.*;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
 import com.tripfriend.domain.notice.entity.Notice;
@@ -21,16 +22,21 @@ import com.tripfriend.domain.review.repository.CommentRepository;
 import com.tripfriend.domain.review.repository.ReviewRepository;
 import com.tripfriend.domain.trip.information.entity.Transportation;
 import com.tripfriend.domain.trip.information.entity.TripInformation;
-import com.tripfriend.domain.trip.information.repository.TripInformationRepository;
 import com.tripfriend.domain.trip.schedule.entity.TripSchedule;
 import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository;
 import com.tripfriend.domain.trip.schedule.service.TripScheduleService;
 import com.tripfriend.domain.review.entity.Review;
 import com.tripfriend.domain.review.entity.Comment;
+import com.tripfriend.global.cache.CacheEvictEvent;
+import com.tripfriend.global.cache.CacheNames;
 import com.tripfriend.global.exception.ServiceException;
+import com.tripfriend.global.version.ContentVersion;
+import com.tripfriend.global.version.ContentVersionRepository;
+import com.tripfriend.global.version.ContentVersionService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,16 +45,24 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 개발용 기본 데이터
+ * InitDataRunner 가 dev 프로필에서만 호출한다. 시드 버전 행(content_version 의 seed:base) 이 SEED_VERSION 이상이면
+ * 조회 한 번으로 끝나고, 없을 때만 항목별로 비어 있는지 확인해 채운다.
+ */
 @Component
+@Profile("dev")
 @RequiredArgsConstructor
-@Transactional
-public class BaseInitData implements CommandLineRunner {
+public class BaseInitData {
+
+    // 시드 내용을 바꾸면 올린다 (DB 의 버전이 더 낮으면 다시 확인해 빠진 항목만 채운다)
+    static final long SEED_VERSION = 1;
+    static final String SEED_NAME = "seed:base";
 
     private final MemberRepository memberRepository;
     private final RecruitRepository recruitRepository;
     private final ApplyRepository applyRepository;
     private final PlaceRepository placeRepository;
-    private final TripInformationRepository tripInformationRepository;
     private final TripScheduleRepository tripScheduleRepository;
     private final ReviewRepository reviewRepository;
     private final CommentRepository commentRepository;
@@ -57,10 +71,19 @@ public class BaseInitData implements CommandLineRunner {
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ContentVersionRepository contentVersionRepository;
+    private final ContentVersionService contentVersionService;
+    private final BlacklistIndexService blacklistIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 시드가 필요했으면 true
+    @Transactional
+    public boolean seed() {
+        ContentVersion seeded = contentVersionRepository.findById(SEED_NAME).orElse(null);
+        if (seeded != null && seeded.getVersion() >= SEED_VERSION) {
+            return false;
+        }
 
-
-    @Override
-    public void run(String... args) throws Exception {
         initMembers(); // 회원 등록
         initPlace(); // 여행지 등록
         initTripSchedule(); // 여행일정 등록
@@ -72,15 +95,22 @@ public class BaseInitData implements CommandLineRunner {
         initBlacklists(); // 블랙리스트 추가
         initQuestionsAndAnswers(); // 질문 및 답변 추가
 
+        contentVersionRepository.save(new ContentVersion(SEED_NAME, SEED_VERSION, LocalDateTime.now()));
+        // 서버가 뜬 뒤에 넣은 경우 이미 채워진 캐시를 비운다
+        eventPublisher.publishEvent(new CacheEvictEvent(CacheNames.RECENT_RECRUITS, CacheNames.POPULAR_REVIEWS,
+                CacheNames.NOTICES, CacheNames.EVENTS, CacheNames.EVENT_CALENDAR));
+        return true;
     }
 
     // 회원 등록
     private void initMembers() {
         if (memberRepository.count() == 0) {
+            String password = passwordEncoder.encode("12341234"); // 해시는 한 번만 계산해서 같이 쓴다
+
             Member user1 = Member.builder()
                     .username("user1")
                     .email("user1@example.com")
-                    .password(passwordEncoder.encode("12341234"))
+                    .password(password)
                     .nickname("user1")
                     .gender(Gender.MALE)
                     .ageRange(AgeRange.TWENTIES)
@@ -90,12 +120,11 @@ public class BaseInitData implements CommandLineRunner {
                     .authority("USER")
                     .verified(true)
                     .build();
-            memberRepository.save(user1);
 
             Member user2 = Member.builder()
                     .username("user2")
                     .email("user2@example.com")
-                    .password(passwordEncoder.encode("12341234"))
+                    .password(password)
                     .nickname("user2")
                     .gender(Gender.FEMALE)
                     .ageRange(AgeRange.THIRTIES)
@@ -105,12 +134,11 @@ public class BaseInitData implements CommandLineRunner {
                     .authority("USER")
                     .verified(true)
                     .build();
-            memberRepository.save(user2);
 
             Member user3 = Member.builder()
                     .username("user3")
                     .email("user3@example.com")
-                    .password(passwordEncoder.encode("12341234"))
+                    .password(password)
                     .nickname("user3")
                     .gender(Gender.MALE)
                     .ageRange(AgeRange.FORTIES_PLUS)
@@ -120,12 +148,11 @@ public class BaseInitData implements CommandLineRunner {
                     .authority("USER")
                     .verified(true)
                     .build();
-            memberRepository.save(user3);
 
             Member admin = Member.builder()
                     .username("admin")
                     .email("admin@example.com")
-                    .password(passwordEncoder.encode("12341234"))
+                    .password(password)
                     .nickname("admin")
                     .gender(Gender.FEMALE)
                     .ageRange(AgeRange.THIRTIES)
@@ -135,7 +162,7 @@ public class BaseInitData implements CommandLineRunner {
                     .authority("ADMIN")
                     .verified(true)
                     .build();
-            memberRepository.save(admin);
+            memberRepository.saveAll(List.of(user1, user2, user3, admin));
 
             System.out.println("회원 테스트 데이터가 등록되었습니다.");
         }else {
@@ -158,61 +185,61 @@ public class BaseInitData implements CommandLineRunner {
                             .title("서울 한강에서 피크닉 함께해요!").content("한강에서 맛있는 음식과 함께 피크닉 즐길 분 모집합니다.")
                             .isClosed(false).startDate(LocalDate.now().plusDays(3)).endDate(LocalDate.now().plusDays(3))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.RELAXATION)
-                            .sameGender(false).sameAge(false).budget(20000).groupSize(4).build(),
+                            .sameGender(false).sameAge(false).budget(20000).groupSize(4).remainingSlots(4).build(),
 
                     Recruit.builder().member(members.get(1)).place(places.get(1))
                             .title("부산 바다 여행! 해운대, 광안리 방문 예정").content("바다 여행을 좋아하시는 분과 함께하면 좋겠어요!")
                             .isClosed(false).startDate(LocalDate.now().plusDays(5)).endDate(LocalDate.now().plusDays(8))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.ADVENTURE)
-                            .sameGender(true).sameAge(true).budget(50000).groupSize(3).build(),
+                            .sameGender(true).sameAge(true).budget(50000).groupSize(3).remainingSlots(3).build(),
 
                     Recruit.builder().member(members.get(2)).place(places.get(3))
                             .title("강릉 커피 투어 동행 모집").content("강릉의 유명한 커피 명소를 함께 방문할 동행을 찾습니다.")
                             .isClosed(false).startDate(LocalDate.now().plusDays(7)).endDate(LocalDate.now().plusDays(10))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.GOURMET)
-                            .sameGender(false).sameAge(false).budget(30000).groupSize(2).build(),
+                            .sameGender(false).sameAge(false).budget(30000).groupSize(2).remainingSlots(2).build(),
 
                     Recruit.builder().member(members.get(1)).place(places.get(5))
                             .title("서울 도심 야경 투어").content("남산, 한강, 롯데타워 전망대 등을 함께 돌면서 야경을 감상해요.")
                             .isClosed(false).startDate(LocalDate.now().plusDays(2)).endDate(LocalDate.now().plusDays(2))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.RELAXATION)
-                            .sameGender(true).sameAge(true).budget(25000).groupSize(5).build(),
+                            .sameGender(true).sameAge(true).budget(25000).groupSize(5).remainingSlots(5).build(),
 
                     Recruit.builder().member(members.get(0)).place(places.get(8))
                             .title("제주도 성산일출봉 트레킹").content("이른 아침 일출을 보러 함께 가실 분 구해요!")
                             .isClosed(false).startDate(LocalDate.now().plusDays(10)).endDate(LocalDate.now().plusDays(12))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.ADVENTURE)
-                            .sameGender(false).sameAge(true).budget(60000).groupSize(3).build(),
+                            .sameGender(false).sameAge(true).budget(60000).groupSize(3).remainingSlots(3).build(),
 
                     Recruit.builder().member(members.get(2)).place(places.get(10))
                             .title("속초 중앙시장 & 바닷가 투어").content("속초에서 맛집 탐방과 바닷가 드라이브 할 분!")
                             .isClosed(false).startDate(LocalDate.now().plusDays(4)).endDate(LocalDate.now().plusDays(6))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.GOURMET)
-                            .sameGender(true).sameAge(false).budget(40000).groupSize(4).build(),
+                            .sameGender(true).sameAge(false).budget(40000).groupSize(4).remainingSlots(4).build(),
 
                     Recruit.builder().member(members.get(1)).place(places.get(12))
                             .title("설악산 단풍 여행 같이 가요!").content("가을 단풍을 보며 힐링할 분 찾습니다.")
                             .isClosed(false).startDate(LocalDate.now().plusDays(15)).endDate(LocalDate.now().plusDays(17))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.RELAXATION)
-                            .sameGender(false).sameAge(false).budget(50000).groupSize(3).build(),
+                            .sameGender(false).sameAge(false).budget(50000).groupSize(3).remainingSlots(3).build(),
 
                     Recruit.builder().member(members.get(0)).place(places.get(13))
                             .title("강릉 바다 드라이브 & 맛집 투어").content("바다 드라이브와 유명 맛집 코스를 함께할 분!")
                             .isClosed(false).startDate(LocalDate.now().plusDays(6)).endDate(LocalDate.now().plusDays(9))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.GOURMET)
-                            .sameGender(false).sameAge(false).budget(70000).groupSize(5).build(),
+                            .sameGender(false).sameAge(false).budget(70000).groupSize(5).remainingSlots(5).build(),
 
                     Recruit.builder().member(members.get(2)).place(places.get(9))
                             .title("부산 감천마을 & 국제시장 투어").content("부산 여행을 알차게 즐길 분 구해요!")
                             .isClosed(false).startDate(LocalDate.now().plusDays(8)).endDate(LocalDate.now().plusDays(10))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.SHOPPING)
-                            .sameGender(true).sameAge(false).budget(35000).groupSize(3).build(),
+                            .sameGender(true).sameAge(false).budget(35000).groupSize(3).remainingSlots(3).build(),
 
                     Recruit.builder().member(members.get(1)).place(places.get(7))
                             .title("경주 문화유산 탐방").content("불국사, 석굴암 등 문화유적지를 돌면서 역사 탐방해요!")
                             .isClosed(false).startDate(LocalDate.now().plusDays(12)).endDate(LocalDate.now().plusDays(15))
                             .travelStyle(com.tripfriend.domain.recruit.recruit.entity.TravelStyle.SIGHTSEEING)
-                            .sameGender(false).sameAge(true).budget(45000).groupSize(4).build()
+                            .sameGender(false).sameAge(true).budget(45000).groupSize(4).remainingSlots(4).build()
             );
 
             recruitRepository.saveAll(recruits);
@@ -246,6 +273,7 @@ public class BaseInitData implements CommandLineRunner {
             );
 
             applyRepository.saveAll(applies);
+            applies.forEach(apply -> recruitRepository.takeSlot(apply.getRecruit().getRecruitId())); // 신청마다 남은 자리 차감
             System.out.println("동행 요청(댓글) 20개가 등록되었습니다.");
         } else {
             System.out.println("이미 동행 요청(댓글) 데이터가 존재합니다.");
@@ -388,14 +416,12 @@ public class BaseInitData implements CommandLineRunner {
                     .startDate(LocalDate.of(2025, 4, 10))
                     .endDate(LocalDate.of(2025, 4, 12))
                     .build();
-            tripScheduleRepository.save(tripSchedule1);
 
             List<TripInformation> tripInformations1 = List.of(
                     createTripInformation(tripSchedule1, 1L, LocalDateTime.of(2025, 4, 10, 9, 0), Transportation.SUBWAY, 3000, "경복궁에서 한복 체험"),
                     createTripInformation(tripSchedule1, 4L, LocalDateTime.of(2025, 4, 10, 12, 0), Transportation.WALK, 0,"명동교자에서 점심"),
                     createTripInformation(tripSchedule1, 3L, LocalDateTime.of(2025, 4, 10, 16, 0), Transportation.BUS, 2000, "스타벅스 더종로점에서 카페 타임")
             );
-            tripInformationRepository.saveAll(tripInformations1);
             tripInformations1.forEach(tripSchedule1::addTripInfromation);
 
             // 3. 두 번째 여행 일정 (부산 바다 여행)
@@ -406,14 +432,12 @@ public class BaseInitData implements CommandLineRunner {
                     .startDate(LocalDate.of(2025, 5, 15))
                     .endDate(LocalDate.of(2025, 5, 17))
                     .build();
-            tripScheduleRepository.save(tripSchedule2);
 
             List<TripInformation> tripInformations2 = List.of(
                     createTripInformation(tripSchedule2, 5L, LocalDateTime.of(2025, 5, 15, 10, 0), Transportation.WALK, 0, "해운대 해수욕장에서 바다 산책"),
                     createTripInformation(tripSchedule2, 6L, LocalDateTime.of(2025, 5, 15, 19, 0), Transportation.TAXI, 10000, "광안대교 야경 감상"),
                     createTripInformation(tripSchedule2, 8L, LocalDateTime.of(2025, 5, 16, 12, 0), Transportation.BUS, 2500, "초량밀면에서 부산 밀면 맛보기")
             );
-            tripInformationRepository.saveAll(tripInformations2);
             tripInformations2.forEach(tripSchedule2::addTripInfromation);
 
             // 4. 세 번째 여행 일정 (제주도 탐방)
@@ -424,14 +448,12 @@ public class BaseInitData implements CommandLineRunner {
                     .startDate(LocalDate.of(2025, 6, 20))
                     .endDate(LocalDate.of(2025, 6, 23))
                     .build();
-            tripScheduleRepository.save(tripSchedule3);
 
             List<TripInformation> tripInformations3 = List.of(
                     createTripInformation(tripSchedule3, 9L, LocalDateTime.of(2025, 6, 20, 8, 30), Transportation.CAR, 20000, "성산일출봉에서 일출 보기"),
                     createTripInformation(tripSchedule3, 10L, LocalDateTime.of(2025, 6, 21, 10, 0), Transportation.BUS, 5000, "우도에서 자전거 타기"),
                     createTripInformation(tripSchedule3, 11L, LocalDateTime.of(2025, 6, 21, 18, 30), Transportation.TAXI, 15000, "제주 흑돼지 거리에서 저녁 식사")
             );
-            tripInformationRepository.saveAll(tripInformations3);
             tripInformations3.forEach(tripSchedule3::addTripInfromation);
 
             // 5. 네 번째 여행 일정 (속초 먹거리 여행)
@@ -442,16 +464,17 @@ public class BaseInitData implements CommandLineRunner {
                     .startDate(LocalDate.of(2025, 7, 5))
                     .endDate(LocalDate.of(2025, 7, 7))
                     .build();
-            tripScheduleRepository.save(tripSchedule4);
 
             List<TripInformation> tripInformations4 = List.of(
                     createTripInformation(tripSchedule4, 12L, LocalDateTime.of(2025, 7, 5, 11, 0), Transportation.WALK, 0, "속초 중앙시장에서 다양한 먹거리 탐방"),
                     createTripInformation(tripSchedule4, 13L, LocalDateTime.of(2025, 7, 6, 9, 0), Transportation.BUS, 4000, "설악산 국립공원 등산"),
                     createTripInformation(tripSchedule4, 14L, LocalDateTime.of(2025, 7, 6, 18, 0), Transportation.TAXI, 8000, "봉포머구리집에서 신선한 해산물 맛보기")
             );
-            tripInformationRepository.saveAll(tripInformations4);
             tripInformations4.forEach(tripSchedule4::addTripInfromation);
 
+            // 일정과 세부 일정(cascade) 을 한 번에 저장
+            tripScheduleRepository.saveAll(List.of(tripSchedule1, tripSchedule2, tripSchedule3, tripSchedule4));
+
             System.out.println("네 개의 여행 일정이 등록되었습니다.");
         } else {
             System.out.println("이미 여행 일정 데이터가 존재합니다.");
@@ -460,9 +483,7 @@ public class BaseInitData implements CommandLineRunner {
 
     // 여행 정보 생성
     private TripInformation createTripInformation(TripSchedule tripSchedule, Long placeId, LocalDateTime visitTime, Transportation transportation, int cost, String notes) {
-        Place place = placeRepository.findById(placeId).orElseThrow(
-                () -> new ServiceException("404-2", "해당 장소가 존재하지 않습니다. ID: " + placeId)
-        );
+        Place place = placeRepository.getReferenceById(placeId); // 조회 없이 참조만 (여행지는 앞에서 등록됨)
 
         return TripInformation.builder()
                 .tripSchedule(tripSchedule)
@@ -649,8 +670,7 @@ public class BaseInitData implements CommandLineRunner {
 
     // 리뷰 생성 헬퍼 메서드
     private Review createReview(String title, String content, double rating, Member member, Long placeId) {
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new ServiceException("404-2", "해당 여행지가 존재하지 않습니다."));
+        Place place = placeRepository.getReferenceById(placeId); // 조회 없이 참조만 (여행지는 앞에서 등록됨)
 
         return new Review(title, content, rating, member, place);
     }
@@ -760,8 +780,11 @@ public class BaseInitData implements CommandLineRunner {
         if (noticeRepository.count() == 0) {
             Member admin = memberRepository.findByUsername("admin").orElseThrow();
 
-            noticeRepository.save(new Notice("공지사항 1", "첫 번째 공지입니다.", admin, LocalDateTime.now()));
-            noticeRepository.save(new Notice("공지사항 2", "두 번째 공지입니다.", admin, LocalDateTime.now()));
+            noticeRepository.saveAll(List.of(
+                    new Notice("공지사항 1", "첫 번째 공지입니다.", admin, LocalDateTime.now()),
+                    new Notice("공지사항 2", "두 번째 공지입니다.", admin, LocalDateTime.now())
+            ));
+            contentVersionService.bump(ContentVersionService.NOTICE); // 목록 ETag 갱신
 
             System.out.println("공지사항 데이터가 등록되었습니다.");
         } else {
@@ -774,6 +797,7 @@ public class BaseInitData implements CommandLineRunner {
             Member user = memberRepository.findByUsername("user1").orElseThrow();
 
             blacklistRepository.save(new Blacklist(user, "비정상 행위로 인해 차단됨", LocalDateTime.now()));
+            blacklistIndexService.added(user.getId()); // 서버가 뜬 뒤에 넣은 경우에도 바로 차단
 
             System.out.println("블랙리스트 데이터가 등록되었습니다.");
         } else {
@@ -788,11 +812,14 @@ public class BaseInitData implements CommandLineRunner {
             Member user = memberRepository.findByUsername("user1").orElseThrow();
             Member admin = memberRepository.findByUsername("admin").orElseThrow();
 
-            Question question1 = questionRepository.save(new Question(user, "TripFirend란?", "TripFirend에 대해 알고 싶어요.", LocalDateTime.now()));
-            Question question2 = questionRepository.save(new Question(user, "바다 여행지 추천해 주세요", "동해 바다로 가고 싶어요 ", LocalDateTime.now()));
+            Question question1 = new Question(user, "TripFirend란?", "TripFirend에 대해 알고 싶어요.", LocalDateTime.now());
+            Question question2 = new Question(user, "바다 여행지 추천해 주세요", "동해 바다로 가고 싶어요 ", LocalDateTime.now());
+            questionRepository.saveAll(List.of(question1, question2));
 
-            answerRepository.save(new Answer(question1, admin, "좋은 여행 플랫폼입니다 ㅎㅎ.", LocalDateTime.now()));
-            answerRepository.save(new Answer(question2, admin, "영덕으로 가시죠.", LocalDateTime.now()));
+            answerRepository.saveAll(List.of(
+                    new Answer(question1, admin, "좋은 여행 플랫폼입니다 ㅎㅎ.", LocalDateTime.now()),
+                    new Answer(question2, admin, "영덕으로 가시죠.", LocalDateTime.now())
+            ));
 
             System.out.println("질문 & 답변 데이터가 등록되었습니다.");
         } else {
@@ -0,0 +1,71 @@
+package com.tripfriend.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 데이터 시드 실행 (dev 프로필에서만, prod / test 는 넣지 않는다)
+ * async 가 false 면 서버가 요청을 받기 전에 넣고, true 면 준비 완료 후 별도 스레드에서 넣어 첫 요청이 기다리지 않게 한다.
+ * async 로 넣은 경우 시작 시점에 채운 메모리 목록 / 인덱스가 시드 이전 상태이므로, 커밋 후 InitDataSeededEvent 로 다시 적재하게 한다.
+ */
+@Slf4j
+@Component
+@Profile("dev")
+@RequiredArgsConstructor
+public class InitDataRunner implements CommandLineRunner {
+
+    private final BaseInitData baseInitData;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${custom.init-data.async:false}")
+    private boolean async;
+
+    @Override
+    public void run(String... args) {
+        if (!async) {
+            seed();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (async) {
+            Thread thread = new Thread(this::seed, "init-data");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private void seed() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            if (baseInitData.seed()) {
+                log.info("기본 데이터 등록 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+                if (async) {
+                    refresh();
+                }
+            }
+        } catch (RuntimeException e) {
+            if (!async) {
+                throw e;
+            }
+            log.error("기본 데이터 등록 실패", e); // 서버는 계속 동작
+        }
+    }
+
+    // seed() 트랜잭션은 이미 커밋된 상태, 리스너 하나가 실패하면 뒤의 리스너는 실행되지 않으므로 주기 작업이나 다음 시작 때 맞춰진다
+    private void refresh() {
+        try {
+            eventPublisher.publishEvent(new InitDataSeededEvent());
+        } catch (RuntimeException e) {
+            log.warn("시드 후 메모리 목록 재적재 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.tripfriend.global.init;
+
+/**
+ * 서버가 준비된 뒤(custom.init-data.async) 기본 데이터 시드가 커밋됐을 때 발행하는 이벤트
+ * 시작 시점에 DB 에서 채운 메모리 목록 / 인덱스는 이 이벤트를 받아 다시 적재한다.
+ */
+public record InitDataSeededEvent() {
+}
@@ -0,0 +1,40 @@
+package com.tripfriend.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 정책 (window 동안 limit 번까지 허용)
+ * IP 기준은 RateLimitFilter, 아이디 / 이메일 기준은 각 서비스에서 비싼 작업(BCrypt, 메일 발송) 전에 확인한다.
+ */
+public enum RateLimitPolicy {
+
+    LOGIN_IP("login:ip", 30, Duration.ofMinutes(1)),
+    LOGIN_USERNAME("login:username", 10, Duration.ofMinutes(5)),
+    EMAIL_SEND_IP("email-send:ip", 10, Duration.ofMinutes(10)),
+    EMAIL_SEND_ADDRESS("email-send:address", 3, Duration.ofMinutes(10)),
+    EMAIL_VERIFY_IP("email-verify:ip", 30, Duration.ofMinutes(1)),
+    EMAIL_VERIFY_ADDRESS("email-verify:address", 5, Duration.ofMinutes(5)), // 인증 코드 추측 방지
+    AVAILABILITY_IP("availability:ip", 30, Duration.ofMinutes(1)); // 아이디 / 닉네임 대량 조회 방지
+
+    private final String name;
+    private final int limit;
+    private final Duration window;
+
+    RateLimitPolicy(String name, int limit, Duration window) {
+        this.name = name;
+        this.limit = limit;
+        this.window = window;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+}
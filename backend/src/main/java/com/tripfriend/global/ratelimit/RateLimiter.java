@@ -0,0 +1,114 @@
+package com.tripfriend.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tripfriend.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 슬라이딩 윈도우 요청 제한
+ * Redis 정렬 집합에 요청 시각을 쌓아 모든 서버가 같은 한도를 공유하고,
+ * Redis 장애 시에는 서버 메모리의 윈도우로 대신 제한한다. (서버별 한도)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final long LOCAL_MAXIMUM_SIZE = 100_000;
+
+    // 윈도우 밖 기록 정리 -> 한도 미만이면 기록 추가 후 0, 초과면 다시 시도 가능할 때까지 남은 ms
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zremrangebyscore', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2])) " +
+                    "if redis.call('zcard', KEYS[1]) < tonumber(ARGV[3]) then " +
+                    "  redis.call('zadd', KEYS[1], ARGV[1], ARGV[4]) " +
+                    "  redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "  return 0 " +
+                    "end " +
+                    "local oldest = redis.call('zrange', KEYS[1], 0, 0, 'WITHSCORES') " +
+                    "return math.max(1, tonumber(oldest[2]) + tonumber(ARGV[2]) - tonumber(ARGV[1]))",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, LocalWindow> localWindows;
+
+    public RateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        long maxWindowMillis = Arrays.stream(RateLimitPolicy.values())
+                .mapToLong(policy -> policy.getWindow().toMillis())
+                .max()
+                .orElse(60_000);
+        this.localWindows = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(maxWindowMillis))
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .build();
+    }
+
+    /**
+     * 요청 한 건을 기록하는 메서드
+     *
+     * @param policy 적용할 정책
+     * @param key    제한 기준 값 (IP, 아이디, 이메일)
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(RateLimitPolicy policy, String key) {
+        if (key == null || key.isBlank()) {
+            return 0;
+        }
+
+        String redisKey = KEY_PREFIX + policy.getName() + ":" + key.trim().toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        long windowMillis = policy.getWindow().toMillis();
+        try {
+            Long retryAfter = stringRedisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(redisKey),
+                    String.valueOf(now), String.valueOf(windowMillis), String.valueOf(policy.getLimit()),
+                    now + ":" + UUID.randomUUID()); // 같은 ms 요청도 따로 기록
+            return retryAfter == null ? 0 : retryAfter;
+        } catch (Exception e) {
+            log.warn("요청 제한 Redis 확인 실패, 서버 메모리로 대체: {}", e.getMessage());
+            return localWindows.get(redisKey, k -> new LocalWindow())
+                    .tryAcquire(now, windowMillis, policy.getLimit());
+        }
+    }
+
+    // 한도를 넘으면 429 로 거절
+    public void check(RateLimitPolicy policy, String key) {
+        long retryAfterMillis = tryAcquire(policy, key);
+        if (retryAfterMillis > 0) {
+            throw new ServiceException("429-1",
+                    "요청이 너무 많습니다. %d초 후 다시 시도해 주세요.".formatted(toSeconds(retryAfterMillis)));
+        }
+    }
+
+    public static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    // Redis 장애 시 사용하는 서버 메모리 윈도우
+    private static final class LocalWindow {
+
+        private final ArrayDeque<Long> timestamps = new ArrayDeque<>();
+
+        synchronized long tryAcquire(long now, long windowMillis, int limit) {
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMillis) {
+                timestamps.pollFirst();
+            }
+            if (timestamps.size() < limit) {
+                timestamps.addLast(now);
+                return 0;
+            }
+            return Math.max(1, timestamps.peekFirst() + windowMillis - now);
+        }
+    }
+}
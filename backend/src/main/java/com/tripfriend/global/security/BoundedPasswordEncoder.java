@@ -0,0 +1,100 @@
+package com.tripfriend.global.security;
+
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.global.exception.ServiceException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 동시에 실행되는 해시 수를 스레드 수로 제한하고 대기열이 차면 바로 503 으로 거절해서,
+ * 로그인이 몰려도 CPU 를 다 써서 다른 API 가 느려지는 일이 없게 한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param delegate      실제 인코더
+     * @param threads       동시에 해시할 수 있는 수
+     * @param queueCapacity 대기할 수 있는 요청 수 (넘으면 거절)
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        // 소셜 로그인 회원은 비밀번호가 없으므로 해시 비교 없이 실패
+        if (rawPassword == null || encodedPassword == null || Member.NO_PASSWORD.equals(encodedPassword)) {
+            return false;
+        }
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 비용(cost)이 바뀌었거나 예전 형식이면 true (로그인 성공 시 다시 해시)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || Member.NO_PASSWORD.equals(encodedPassword)) {
+            return false;
+        }
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,34 +1,36 @@
 package com.tripfriend.global.security;
 
+import com.tripfriend.domain.member.member.dto.MemberIdentifierType;
 import com.tripfriend.domain.member.member.entity.AgeRange;
 import com.tripfriend.domain.member.member.entity.Gender;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.entity.TravelStyle;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.domain.member.member.service.MemberAvailabilityService;
 import com.tripfriend.global.oauth.GoogleUserInfo;
 import com.tripfriend.global.oauth.KakaoUserInfo;
 import com.tripfriend.global.oauth.NaverUserInfo;
 import com.tripfriend.global.oauth.OAuth2UserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
 import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
 @Service
+@Lazy // 소셜 로그인이 처음 들어올 때 생성 (SecurityConfig 에서도 @Lazy 로 주입)
 @RequiredArgsConstructor
 public class CustomOauth2UserService extends DefaultOAuth2UserService {
 
-    private static final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
     private final MemberRepository memberRepository;
+    private final MemberAvailabilityService memberAvailabilityService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -50,12 +52,10 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
             log.info("error");
         }
 
-        String randomPassword = generateRandomPassword(15);  // 15자리 랜덤 비밀번호 생성
-
         String provider = oAuth2UserInfo.getProvider();
         String providerId = oAuth2UserInfo.getProviderId();
         String username = provider + "_" + providerId;
-        String password = bCryptPasswordEncoder.encode(randomPassword);
+        String password = Member.NO_PASSWORD; // 비밀번호 로그인을 쓰지 않으므로 해시하지 않는다
         String email = oAuth2UserInfo.getEmail();
         double rating = 0.0;
         String authority = "USER";
@@ -86,6 +86,8 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
 
             // 새로운 회원 DB에 저장
             memberRepository.save(memberEntity);
+            memberAvailabilityService.register(MemberIdentifierType.USERNAME, username);
+            memberAvailabilityService.register(MemberIdentifierType.NICKNAME, username);
 
             return new PrincipalDetails(memberEntity, oAuth2User.getAttributes());
         } else {
@@ -97,18 +99,4 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
         return new PrincipalDetails(memberEntityOptional.orElseThrow(() -> new OAuth2AuthenticationException("Member not found")),
                 oAuth2User.getAttributes());
     }
-
-    // 랜덤 비밀번호 생성
-    private static String generateRandomPassword(int length) {
-
-        StringBuilder password = new StringBuilder(length);
-        String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        SecureRandom random = new SecureRandom();
-
-        for (int i = 0; i < length; i++) {
-            int index = random.nextInt(CHARACTERS.length());
-            password.append(CHARACTERS.charAt(index));
-        }
-        return password.toString();
-    }
 }
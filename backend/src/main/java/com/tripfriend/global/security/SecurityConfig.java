@@ -1,18 +1,23 @@
 package com.tripfriend.global.security;
 
+import com.tripfriend.domain.blacklist.service.BlacklistIndexService;
 import com.tripfriend.global.filter.DeletedMemberFilter;
 import com.tripfriend.global.filter.JwtAuthenticationFilter;
+import com.tripfriend.global.filter.RateLimitFilter;
 import com.tripfriend.global.handler.OAuth2AuthenticationSuccessHandler;
 import com.tripfriend.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
@@ -23,6 +28,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -30,10 +36,14 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    @Lazy // 소셜 로그인 관련 빈은 처음 쓸 때 생성
     private final CustomOauth2UserService customOauth2UserService;
+    @Lazy
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final DeletedMemberFilter deletedMemberFilter;
     private final RedisTemplate<String, String> redisTemplate;
+    private final BlacklistIndexService blacklistIndexService;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -58,6 +68,7 @@ public class SecurityConfig {
                         exceptionHandling
                                 .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 )
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(deletedMemberFilter, UsernamePasswordAuthenticationFilter.class)
                 // oauth2 로그인 설정
@@ -87,12 +98,20 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, customUserDetailsService, redisTemplate);
+        return new JwtAuthenticationFilter(jwtUtil, customUserDetailsService, redisTemplate, blacklistIndexService);
     }
 
+    // 새 해시는 {bcrypt} 접두어로 저장하고, 접두어 없는 기존 해시도 BCrypt 로 확인한다
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${custom.password.bcrypt-strength:10}") int bcryptStrength,
+                                           @Value("${custom.password.hashing-threads:0}") int hashingThreads,
+                                           @Value("${custom.password.hashing-queue-capacity:64}") int queueCapacity) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity);
     }
 
     private List<String> getPublicEndpoints() {
@@ -104,6 +123,10 @@ public class SecurityConfig {
                 "/swagger-resources/**",
                 "/webjars/**",
 
+                // 모니터링 (management.server.port 내부 포트에서만 열림, JWT 필터도 거치지 않음)
+                "/actuator/health",
+                "/actuator/prometheus",
+
                 // 항상 모든 HTTP 메소드에 대해 인증 없이 접근 가능한 경로
                 "/notice",
                 "/recruits/recent3",
@@ -132,6 +155,7 @@ public class SecurityConfig {
                 "/place",
                 "/place/{id}",
                 "/place/search",
+                "/place/autocomplete",
                 "/place/cities",
                 "/api/reviews/{reviewId}",
                 "/api/reviews",
@@ -148,10 +172,16 @@ public class SecurityConfig {
                 "/recruits/{recruitId}/applies",
                 "/admin/notice/{id}",
                 "/admin/event",
+                "/admin/event/list",
+                "/admin/event/range",
+                "/admin/event/calendar",
+                "/admin/event/upcoming",
+                "/notice/list",
                 "/qna",
                 "/qna/{id}",
                 "/qna/{questionId}/answers",
                 "/member/auth/verify-email",
+                "/member/availability",
                 "/images/**"
         );
     }
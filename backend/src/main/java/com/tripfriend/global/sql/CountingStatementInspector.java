@@ -0,0 +1,13 @@
+package com.tripfriend.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 SQL 을 준비할 때마다 호출된다 (SQL 은 바꾸지 않음)
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.increment();
+        return sql;
+    }
+}
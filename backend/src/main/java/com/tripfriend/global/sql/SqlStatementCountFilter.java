@@ -0,0 +1,81 @@
+package com.tripfriend.global.sql;
+
+import com.tripfriend.global.annotation.MaxQueries;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 세는 필터 (N+1 감지용)
+ * 인증 필터의 회원 조회까지 포함하도록 보안 필터보다 먼저 실행한다.
+ * 수는 http.server.requests.sql 로 기록하고, 한도(@MaxQueries 또는 기본값)를 넘으면 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${custom.sql.request-budget:30}") int defaultBudget) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope.getCount());
+        }
+    }
+
+    private void record(HttpServletRequest request, long count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN"; // 경로 변수 값으로 태그가 늘어나지 않게 패턴 사용
+
+        DistributionSummary.builder("http.server.requests.sql")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        int budget = resolveBudget(request);
+        if (count > budget) {
+            log.warn("SQL 실행 수 초과: {} {} -> {}건 (한도 {}건)", request.getMethod(), uri, count, budget);
+        }
+    }
+
+    private int resolveBudget(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            MaxQueries maxQueries = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), MaxQueries.class);
+            if (maxQueries == null) {
+                maxQueries = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), MaxQueries.class);
+            }
+            if (maxQueries != null) {
+                return maxQueries.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
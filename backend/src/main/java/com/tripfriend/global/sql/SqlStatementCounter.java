@@ -0,0 +1,51 @@
+package com.tripfriend.global.sql;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수
+ * start() 로 연 구간 안에서만 센다. 구간은 중첩할 수 있고, 안쪽 구간의 수는 닫을 때 바깥 구간에도 더해진다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // StatementInspector 에서 호출
+    static void increment() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private long count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                parent.count += count;
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
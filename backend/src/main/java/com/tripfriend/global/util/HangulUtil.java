@@ -0,0 +1,105 @@
+package com.tripfriend.global.util;
+
+/**
+ * 한글 검색용 문자열 정규화 유틸
+ * 음절을 자모로 분해하거나 초성만 뽑아서, 입력 중인 글자("서우")나 초성 검색("ㅅㅇ")도 부분 일치로 비교할 수 있게 한다.
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // '가'
+    private static final char SYLLABLE_END = 0xD7A3;   // '힣'
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 겹모음은 키보드 입력 순서대로 풀어 둔다 (ㅘ -> ㅗㅏ)
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 겹받침도 풀어 둔다 (ㄺ -> ㄹㄱ)
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환 자모)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 공백을 없애고 소문자로 바꾼 뒤 한글 음절을 자모로 분해한다.
+     * 예) "서울 타워" -> "ㅅㅓㅇㅜㄹㅌㅏㅇㅜㅓ" (겹모음, 겹받침도 분해)
+     */
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)))
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(c);
+            if (compound >= 0) {
+                sb.append(COMPOUND_JAMO_SPLIT[compound]);
+                continue;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 없애고 한글 음절은 초성으로, 나머지는 소문자로 바꾼다.
+     * 예) "서울타워" -> "ㅅㅇㅌㅇ"
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                sb.append(CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)));
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 공백을 제외한 모든 글자가 자음(ㄱ~ㅎ)인지 확인 (초성 검색 여부 판단)
+    public static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -1,8 +1,10 @@
 package com.tripfriend.global.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -29,6 +31,7 @@ public class JwtUtil {
     private long refreshTokenExpiration;
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     private static final String REDIS_ACCESS_TOKEN_PREFIX = "access:";
     private static final String REDIS_REFRESH_TOKEN_PREFIX = "refresh:";
@@ -196,11 +199,22 @@ public class JwtUtil {
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String result = "success";
+        try {
+            return Jwts.parser()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } catch (ExpiredJwtException e) {
+            result = "expired";
+            throw e;
+        } catch (RuntimeException e) {
+            result = "invalid";
+            throw e;
+        } finally {
+            meterRegistry.counter("jwt.parse", "result", result).increment(); // 토큰 파싱 횟수
+        }
     }
 
     private SecretKey getSigningKey() {
@@ -0,0 +1,119 @@
+package com.tripfriend.global.util;
+
+import java.util.Arrays;
+
+/**
+ * long 전용 읽기 전용 해시 집합 (박싱 없이 배열 하나에 저장)
+ * 한 번 만들면 바뀌지 않으므로 여러 스레드에서 잠금 없이 읽어도 된다.
+ * 변경은 with / without 으로 새 집합을 만들어 교체한다. (변경이 드문 데이터용)
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L; // 0 은 빈 칸 표시로 쓰고 따로 기록
+    private static final LongHashSet EMPTY_SET = new LongHashSet(new long[0]);
+
+    private final long[] table;
+    private final int mask;
+    private final boolean containsZero;
+    private final int size;
+
+    private LongHashSet(long[] values) {
+        // 적재율 50% 이하 (2의 거듭제곱 크기)
+        int capacity = Integer.highestOneBit(Math.max(2, values.length * 2 - 1)) << 1;
+        long[] slots = new long[capacity];
+        int slotMask = capacity - 1;
+        boolean zero = false;
+        int count = 0;
+
+        for (long value : values) {
+            if (value == EMPTY) {
+                if (!zero) {
+                    zero = true;
+                    count++;
+                }
+                continue;
+            }
+            int index = mix(value) & slotMask;
+            while (slots[index] != EMPTY && slots[index] != value) {
+                index = (index + 1) & slotMask;
+            }
+            if (slots[index] == EMPTY) {
+                slots[index] = value;
+                count++;
+            }
+        }
+
+        this.table = slots;
+        this.mask = slotMask;
+        this.containsZero = zero;
+        this.size = count;
+    }
+
+    public static LongHashSet empty() {
+        return EMPTY_SET;
+    }
+
+    public static LongHashSet of(long[] values) {
+        return values.length == 0 ? EMPTY_SET : new LongHashSet(values);
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LongHashSet with(long value) {
+        if (contains(value)) {
+            return this;
+        }
+        long[] values = toArray();
+        long[] next = Arrays.copyOf(values, values.length + 1);
+        next[values.length] = value;
+        return new LongHashSet(next);
+    }
+
+    public LongHashSet without(long value) {
+        if (!contains(value)) {
+            return this;
+        }
+        return of(Arrays.stream(toArray()).filter(v -> v != value).toArray());
+    }
+
+    public long[] toArray() {
+        long[] values = new long[size];
+        int i = 0;
+        if (containsZero) {
+            values[i++] = EMPTY;
+        }
+        for (long slot : table) {
+            if (slot != EMPTY) {
+                values[i++] = slot;
+            }
+        }
+        return values;
+    }
+
+    // 연속된 id 도 고르게 퍼지도록 섞는다 (murmur3 fmix64)
+    private static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
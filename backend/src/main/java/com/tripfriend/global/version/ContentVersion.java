@@ -0,0 +1,39 @@
+package com.tripfriend.global.version;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 데이터 버전 (공지사항, 이벤트 등 테이블 단위)
+ * 생성 / 수정 / 삭제 때마다 version 이 1씩 올라가고, 목록 응답의 ETag / Last-Modified 를 여기서 만든다.
+ * 개발용 기본 데이터의 시드 버전(seed:base) 도 같은 테이블에 둔다.
+ */
+@Entity
+@Table(name = "content_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentVersion {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ContentVersion(String name, long version, LocalDateTime updatedAt) {
+        this.name = name;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,16 @@
+package com.tripfriend.global.version;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+    // 버전 1 증가, 반영된 행 수 반환 (0 이면 아직 행이 없음)
+    @Modifying
+    @Query("UPDATE ContentVersion v SET v.version = v.version + 1, v.updatedAt = :now WHERE v.name = :name")
+    int increment(@Param("name") String name, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,94 @@
+package com.tripfriend.global.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 테이블 단위 버전 관리와 조건부 조회(304) 처리
+ * 쓰기 메서드에서 bump 로 버전을 올리고, 목록 API 는 conditional 로 응답을 만든다.
+ * 클라이언트(브라우저, CDN)가 보낸 If-None-Match / If-Modified-Since 가 현재 버전과 같으면 본문 없이 304 를 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentVersionService {
+
+    public static final String NOTICE = "notice";
+    public static final String EVENT = "event";
+    private static final List<String> NAMES = List.of(NOTICE, EVENT);
+
+    private final ContentVersionRepository contentVersionRepository;
+
+    // 버전 행이 없으면 미리 만들어 둔다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void init() {
+        LocalDateTime now = now();
+        for (String name : NAMES) {
+            if (!contentVersionRepository.existsById(name)) {
+                contentVersionRepository.save(new ContentVersion(name, 1, now));
+            }
+        }
+    }
+
+    // 쓰기 트랜잭션 안에서 호출 (같이 커밋 / 롤백된다)
+    @Transactional
+    public void bump(String name) {
+        LocalDateTime now = now();
+        if (contentVersionRepository.increment(name, now) == 0) {
+            contentVersionRepository.save(new ContentVersion(name, 1, now));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ContentVersion get(String name) {
+        return contentVersionRepository.findById(name)
+                .orElseGet(() -> new ContentVersion(name, 0, LocalDateTime.of(2000, 1, 1, 0, 0)));
+    }
+
+    /**
+     * 버전 기반 조건부 응답
+     *
+     * @param name       버전 이름
+     * @param variant    같은 버전 안에서 응답을 구분하는 값 (페이지 번호, 크기 등)
+     * @param webRequest 요청 (If-None-Match / If-Modified-Since 확인)
+     * @param body       변경된 경우에만 실행되는 본문 조회
+     */
+    public <T> ResponseEntity<T> conditional(String name, String variant, WebRequest webRequest, Supplier<T> body) {
+        ContentVersion version = get(name);
+        String eTag = "\"" + name + "-v" + version.getVersion() + "-" + variant + "\"";
+        long lastModified = version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        CacheControl cacheControl = CacheControl.noCache().cachePublic(); // 매번 재검증
+
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+
+    // Last-Modified 는 초 단위
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -48,6 +48,9 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberAvailabilityService memberAvailabilityService;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -0,0 +1,82 @@
+package com.tripfriend.domain.place.place.service;
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto;
+import com.tripfriend.domain.place.place.entity.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceSearchIndexTest {
+
+    // 후기 수 순위: 서울숲(10) = 남산서울타워(10, id 가 큼) > 경복궁(5) > 광안리(3) > 해운대(0)
+    private final PlaceSearchIndex index = PlaceSearchIndex.of(
+            List.of(
+                    place(1L, "서울", "경복궁"),
+                    place(2L, "서울", "서울숲"),
+                    place(3L, "부산", "해운대"),
+                    place(4L, "부산", "광안리"),
+                    place(5L, "서울", "남산서울타워")),
+            Map.of(1L, 5L, 2L, 10L, 4L, 3L, 5L, 10L));
+
+    @Test
+    @DisplayName("장소명, 도시명 일치 결과를 중복 없이 인기순으로 합친다")
+    void autocompleteUnion() {
+        assertThat(ids(index.autocomplete("서울", 10))).containsExactly(2L, 5L, 1L);
+    }
+
+    @Test
+    @DisplayName("합친 결과는 limit 개까지만 반환한다")
+    void autocompleteLimit() {
+        assertThat(ids(index.autocomplete("서울", 2))).containsExactly(2L, 5L);
+        assertThat(index.autocomplete("서울", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자도 자모 단위로 일치한다")
+    void autocompleteTyping() {
+        assertThat(ids(index.autocomplete("서우", 10))).containsExactly(2L, 5L, 1L);
+        assertThat(ids(index.autocomplete("과", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("자음만 입력하면 초성으로 검색한다")
+    void autocompleteChosung() {
+        assertThat(ids(index.autocomplete("ㅎㅇㄷ", 10))).containsExactly(3L);
+        assertThat(ids(index.autocomplete("ㅅ", 10))).containsExactly(2L, 5L, 1L, 4L, 3L); // 한 글자는 전체를 훑는다
+    }
+
+    @Test
+    @DisplayName("일치하는 여행지가 없으면 빈 목록")
+    void autocompleteNoMatch() {
+        assertThat(index.autocomplete("제주", 10)).isEmpty();
+        assertThat(index.autocomplete(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장소명과 도시명 조건을 모두 만족하는 여행지만 인기순으로 반환한다")
+    void searchIntersect() {
+        assertThat(ids(index.search("서울", "서울"))).containsExactly(2L, 5L);
+        assertThat(ids(index.search(null, "부산"))).containsExactly(4L, 3L);
+        assertThat(ids(index.search("해운", null))).containsExactly(3L);
+        assertThat(index.search("해운", "서울")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건이 모두 비어 있으면 빈 목록")
+    void searchBlank() {
+        assertThat(index.search(null, null)).isEmpty();
+        assertThat(index.search("", " ")).isEmpty();
+    }
+
+    private static PlaceResDto place(Long id, String cityName, String placeName) {
+        return new PlaceResDto(id, cityName, placeName, null, Category.PLACE, null);
+    }
+
+    private static List<Long> ids(List<PlaceResDto> places) {
+        return places.stream().map(PlaceResDto::getId).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.tripfriend.domain.qna.service;
+
+import com.tripfriend.domain.member.member.entity.AgeRange;
+import com.tripfriend.domain.member.member.entity.Gender;
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.member.member.entity.TravelStyle;
+import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.domain.qna.dto.AnswerPageResponseDto;
+import com.tripfriend.domain.qna.dto.QuestionSummaryDto;
+import com.tripfriend.domain.qna.dto.QuestionWithAnswersDto;
+import com.tripfriend.domain.qna.entity.Answer;
+import com.tripfriend.domain.qna.entity.Question;
+import com.tripfriend.domain.qna.repository.AnswerRepository;
+import com.tripfriend.domain.qna.repository.QuestionRepository;
+import com.tripfriend.global.annotation.MaxQueries;
+import com.tripfriend.global.dto.PageResponseDto;
+import com.tripfriend.global.sql.MaxQueriesExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 데이터는 @BeforeAll 에서 넣는다 (@BeforeEach 는 SQL 수를 세기 시작한 뒤에 실행된다)
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(MaxQueriesExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QuestionServiceQueryCountTest {
+
+    private static final int QUESTION_COUNT = 25; // 한 페이지(20)보다 많아야 전체 수 조회도 실행된다
+    private static final int ANSWERS_PER_QUESTION = 30;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    private final List<Member> members = new ArrayList<>();
+    private final List<Question> questions = new ArrayList<>();
+    private final List<Answer> answers = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .username("qnaCountUser" + i)
+                    .email("qnaCountUser" + i + "@example.com")
+                    .password("password123")
+                    .nickname("qnaCountUser" + i)
+                    .gender(Gender.MALE)
+                    .ageRange(AgeRange.TWENTIES)
+                    .travelStyle(TravelStyle.TOURISM)
+                    .rating(0.0)
+                    .authority("USER")
+                    .build()));
+        }
+
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            questions.add(questionRepository.save(Question.builder()
+                    .title("질문 " + i)
+                    .content("질문 내용 " + i)
+                    .member(members.get(i % members.size()))
+                    .build()));
+        }
+
+        for (Question question : questions) {
+            for (int i = 0; i < ANSWERS_PER_QUESTION; i++) {
+                answers.add(Answer.builder()
+                        .question(question)
+                        .member(members.get(i % members.size()))
+                        .content("답변 " + i)
+                        .build());
+            }
+        }
+        answerRepository.saveAll(answers);
+    }
+
+    @AfterAll
+    void tearDown() {
+        answerRepository.deleteAllInBatch(answers);
+        questionRepository.deleteAllInBatch(questions);
+        memberRepository.deleteAllInBatch(members);
+    }
+
+    @Test
+    @MaxQueries(3) // 질문 페이지, 전체 수, 답변 수 (답변 수와 무관)
+    @DisplayName("질문 목록 조회는 답변 수와 관계없이 SQL 3건 이하")
+    void getQuestionPage() {
+        PageResponseDto<QuestionSummaryDto> page = questionService.getQuestionPage(0, 20);
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(QUESTION_COUNT);
+        assertThat(page.getContent()).allSatisfy(question ->
+                assertThat(question.getAnswerCount()).isEqualTo(ANSWERS_PER_QUESTION));
+    }
+
+    @Test
+    @MaxQueries(2) // 질문 존재 확인, 답변 페이지 (작성자 조인)
+    @DisplayName("답변 목록 조회는 답변 수와 관계없이 SQL 2건 이하")
+    void getAnswersByQuestionId() {
+        AnswerPageResponseDto page = answerService.getAnswersByQuestionId(questions.get(0).getId(), null, 20);
+
+        assertThat(page.getAnswers()).hasSize(20);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getAnswers()).allSatisfy(answer -> assertThat(answer.getMemberUsername()).isNotNull());
+    }
+
+    @Test
+    @MaxQueries(2) // 질문 + 작성자, 답변 첫 페이지
+    @DisplayName("질문 상세(관리자) 조회는 답변 수와 관계없이 SQL 2건 이하")
+    void getQuestionWithAnswers() {
+        QuestionWithAnswersDto question = questionService.getQuestionWithAnswers(questions.get(0).getId());
+
+        assertThat(question.getMemberUsername()).isNotNull();
+        assertThat(question.getAnswers()).hasSize(ANSWERS_PER_QUESTION);
+        assertThat(question.isHasMoreAnswers()).isFalse();
+    }
+}
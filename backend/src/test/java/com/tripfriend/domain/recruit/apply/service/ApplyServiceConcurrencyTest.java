@@ -0,0 +1,185 @@
+package com.tripfriend.domain.recruit.apply.service;
+
+import com.tripfriend.domain.member.member.entity.AgeRange;
+import com.tripfriend.domain.member.member.entity.Gender;
+import com.tripfriend.domain.member.member.entity.Member;
+import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.domain.member.member.service.AuthService;
+import com.tripfriend.domain.place.place.entity.Category;
+import com.tripfriend.domain.place.place.entity.Place;
+import com.tripfriend.domain.place.place.repository.PlaceRepository;
+import com.tripfriend.domain.recruit.apply.dto.ApplyCreateRequestDto;
+import com.tripfriend.domain.recruit.apply.repository.ApplyRepository;
+import com.tripfriend.domain.recruit.recruit.entity.Recruit;
+import com.tripfriend.domain.recruit.recruit.entity.TravelStyle;
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository;
+import com.tripfriend.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// 여러 스레드가 동시에 신청해도 모집 인원을 넘지 않는지 확인 (스레드마다 별도 트랜잭션이므로 @Transactional 을 쓰지 않고 직접 정리)
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplyServiceConcurrencyTest {
+
+    private static final int GROUP_SIZE = 5;
+    private static final int THREADS = 20;
+
+    @Autowired
+    private ApplyService applyService;
+
+    @Autowired
+    private ApplyRepository applyRepository;
+
+    @Autowired
+    private RecruitRepository recruitRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @MockBean
+    private AuthService authService;
+
+    private final Map<String, Member> membersByToken = new ConcurrentHashMap<>();
+    private final List<Member> applicants = new ArrayList<>();
+    private Member owner;
+    private Place place;
+    private Recruit recruit;
+
+    @BeforeEach
+    void setUp() {
+        owner = memberRepository.save(member("applyOwner"));
+        for (int i = 0; i < THREADS; i++) {
+            Member applicant = memberRepository.save(member("applyUser" + i));
+            applicants.add(applicant);
+            membersByToken.put("token" + i, applicant);
+        }
+        given(authService.getLoggedInMember(anyString())).willAnswer(invocation -> membersByToken.get(invocation.getArgument(0, String.class)));
+
+        place = placeRepository.save(Place.builder()
+                .cityName("서울")
+                .placeName("동시 신청 테스트")
+                .description("동시 신청 테스트용 여행지")
+                .category(Category.PLACE)
+                .build());
+
+        recruit = recruitRepository.save(Recruit.builder()
+                .member(owner)
+                .place(place)
+                .title("동시 신청 테스트")
+                .content("동시 신청 테스트")
+                .startDate(LocalDate.now().plusDays(7))
+                .endDate(LocalDate.now().plusDays(9))
+                .travelStyle(TravelStyle.SIGHTSEEING)
+                .sameGender(false)
+                .sameAge(false)
+                .budget(0)
+                .groupSize(GROUP_SIZE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        applyRepository.deleteAllInBatch(applyRepository.findByRecruitRecruitId(recruit.getRecruitId()));
+        recruitRepository.deleteAllInBatch(List.of(recruit));
+        placeRepository.deleteAllInBatch(List.of(place));
+        memberRepository.deleteAllInBatch(applicants);
+        memberRepository.deleteAllInBatch(List.of(owner));
+    }
+
+    @Test
+    @DisplayName("서로 다른 회원이 동시에 신청해도 모집 인원만큼만 성공하고 마감된다")
+    void concurrentApplies() throws Exception {
+        List<String> results = applyConcurrently(i -> "token" + i);
+
+        assertThat(results).filteredOn("OK"::equals).hasSize(GROUP_SIZE);
+        assertThat(results).filteredOn("409-1"::equals).hasSize(THREADS - GROUP_SIZE);
+        assertThat(applyRepository.findByRecruitRecruitId(recruit.getRecruitId())).hasSize(GROUP_SIZE);
+
+        Recruit saved = recruitRepository.findById(recruit.getRecruitId()).orElseThrow();
+        assertThat(saved.getRemainingSlots()).isZero();
+        assertThat(saved.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 신청해도 한 번만 성공하고 자리도 하나만 차지한다")
+    void concurrentDoubleSubmit() throws Exception {
+        List<String> results = applyConcurrently(i -> "token0");
+
+        assertThat(results).filteredOn("OK"::equals).hasSize(1);
+        assertThat(results).filteredOn("409-2"::equals).hasSize(THREADS - 1);
+        assertThat(applyRepository.findByRecruitRecruitId(recruit.getRecruitId())).hasSize(1);
+
+        Recruit saved = recruitRepository.findById(recruit.getRecruitId()).orElseThrow();
+        assertThat(saved.getRemainingSlots()).isEqualTo(GROUP_SIZE - 1);
+        assertThat(saved.isClosed()).isFalse();
+    }
+
+    // 모든 스레드를 한꺼번에 출발시켜 신청, 결과는 "OK" 또는 ServiceException 코드
+    private List<String> applyConcurrently(IntFunction<String> tokenOf) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        ApplyCreateRequestDto request = new ApplyCreateRequestDto("같이 가요");
+
+        for (int i = 0; i < THREADS; i++) {
+            String token = tokenOf.apply(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    applyService.create(recruit.getRecruitId(), request, token);
+                    return "OK";
+                } catch (ServiceException e) {
+                    return e.getCode();
+                }
+            }));
+        }
+
+        start.countDown();
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private Member member(String username) {
+        return Member.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password123")
+                .nickname(username)
+                .gender(Gender.MALE)
+                .ageRange(AgeRange.TWENTIES)
+                .travelStyle(com.tripfriend.domain.member.member.entity.TravelStyle.TOURISM)
+                .rating(0.0)
+                .authority("USER")
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.tripfriend.global.sql;
+
+import com.tripfriend.global.annotation.MaxQueries;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Optional;
+
+/**
+ * 테스트 메서드(또는 클래스)의 @MaxQueries 한도를 확인하는 확장
+ * 테스트 메서드 실행 중 같은 스레드에서 실행된 SQL 문을 세고, 한도를 넘으면 테스트를 실패시킨다.
+ * (MockMvc 요청도 같은 스레드에서 실행되므로 함께 센다)
+ */
+public class MaxQueriesExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        findMaxQueries(context).ifPresent(maxQueries ->
+                context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.start()));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        int max = findMaxQueries(context).orElseThrow().value();
+        if (scope.getCount() > max) {
+            throw new AssertionError("SQL 실행 수 초과: %d건 (한도 %d건)".formatted(scope.getCount(), max));
+        }
+    }
+
+    private Optional<MaxQueries> findMaxQueries(ExtensionContext context) {
+        Optional<MaxQueries> onMethod = context.getTestMethod()
+                .flatMap(method -> AnnotationSupport.findAnnotation(method, MaxQueries.class));
+        return onMethod.isPresent()
+                ? onMethod
+                : context.getTestClass().flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, MaxQueries.class));
+    }
+}
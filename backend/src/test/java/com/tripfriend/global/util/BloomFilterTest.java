@@ -0,0 +1,86 @@
+package com.tripfriend.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int CAPACITY = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("아무것도 넣지 않은 필터는 모든 값에 false")
+    void empty() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+
+        assertThat(filter.mightContain("user1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 원소 수가 0 이어도 만들 수 있고 넣은 값은 찾는다")
+    void zeroExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(0, FALSE_POSITIVE_RATE);
+        filter.put("user1");
+
+        assertThat(filter.mightContain("user1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("넣은 값은 항상 true (거짓 음성 없음), 한글 / 빈 문자열 포함")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        List<String> values = new ArrayList<>(List.of("", "여행친구", "tripfriend@example.com"));
+        IntStream.range(0, CAPACITY - values.size()).forEach(i -> values.add("user" + i));
+
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 채워도 오탐률은 설정값의 두 배를 넘지 않는다")
+    void falsePositiveRateAtCapacity() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        IntStream.range(0, CAPACITY).forEach(i -> filter.put("member" + i));
+
+        int probes = 100_000;
+        long falsePositives = IntStream.range(0, probes)
+                .filter(i -> filter.mightContain("other" + i))
+                .count();
+
+        assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 넣어도 빠지는 값이 없다")
+    void concurrentPut() throws Exception {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int i = offset; i < CAPACITY; i += 4) {
+                    filter.put("user" + i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(IntStream.range(0, CAPACITY).allMatch(i -> filter.mightContain("user" + i))).isTrue();
+    }
+}
@@ -0,0 +1,58 @@
+package com.tripfriend.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilTest {
+
+    @Test
+    @DisplayName("음절을 자모로 분해하고 공백은 없앤다")
+    void toJamo() {
+        assertThat(HangulUtil.toJamo("서울 타워")).isEqualTo("ㅅㅓㅇㅜㄹㅌㅏㅇㅜㅓ");
+        assertThat(HangulUtil.toJamo("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("겹받침, 겹모음, 단독 겹자모도 입력 순서대로 분해한다")
+    void compoundJamo() {
+        assertThat(HangulUtil.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulUtil.toJamo("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulUtil.toJamo("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(HangulUtil.toJamo("광")).isEqualTo("ㄱㅗㅏㅇ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자는 완성된 글자의 자모 앞부분과 일치한다")
+    void typingInProgress() {
+        assertThat(HangulUtil.toJamo("서울")).startsWith(HangulUtil.toJamo("서우"));
+        assertThat(HangulUtil.toJamo("광안리")).startsWith(HangulUtil.toJamo("과"));
+        assertThat(HangulUtil.toJamo("닭갈비")).startsWith(HangulUtil.toJamo("달"));
+    }
+
+    @Test
+    @DisplayName("한글이 아닌 글자는 소문자로만 바꾼다")
+    void nonHangul() {
+        assertThat(HangulUtil.toJamo("Seoul N")).isEqualTo("seouln");
+        assertThat(HangulUtil.toChosung("N 서울")).isEqualTo("nㅅㅇ");
+    }
+
+    @Test
+    @DisplayName("음절을 초성으로 바꾼다")
+    void toChosung() {
+        assertThat(HangulUtil.toChosung("서울타워")).isEqualTo("ㅅㅇㅌㅇ");
+        assertThat(HangulUtil.toChosung("쌍따옴표")).isEqualTo("ㅆㄸㅇㅍ");
+    }
+
+    @Test
+    @DisplayName("공백을 뺀 모든 글자가 자음일 때만 초성 검색으로 본다")
+    void isChosungOnly() {
+        assertThat(HangulUtil.isChosungOnly("ㅅㅇ")).isTrue();
+        assertThat(HangulUtil.isChosungOnly("ㅅ ㅇ")).isTrue();
+        assertThat(HangulUtil.isChosungOnly("서ㅇ")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("ㅏ")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("  ")).isFalse();
+    }
+}
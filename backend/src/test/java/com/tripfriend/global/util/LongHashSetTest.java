@@ -0,0 +1,93 @@
+package com.tripfriend.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("빈 집합은 어떤 값도 포함하지 않는다")
+    void empty() {
+        LongHashSet set = LongHashSet.of(new long[0]);
+
+        assertThat(set).isSameAs(LongHashSet.empty());
+        assertThat(set.size()).isZero();
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.contains(1L)).isFalse();
+        assertThat(set.toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("0 은 빈 칸 표시와 별도로 기록된다")
+    void zero() {
+        LongHashSet set = LongHashSet.of(new long[]{0L, 0L, 7L});
+
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.toArray()).containsExactlyInAnyOrder(0L, 7L);
+
+        LongHashSet withoutZero = set.without(0L);
+        assertThat(withoutZero.contains(0L)).isFalse();
+        assertThat(withoutZero.contains(7L)).isTrue();
+        assertThat(withoutZero.size()).isEqualTo(1);
+
+        assertThat(LongHashSet.of(new long[]{7L}).with(0L).contains(0L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("중복, 음수, 극단값도 정확히 포함 여부를 판단한다")
+    void duplicatesAndExtremes() {
+        LongHashSet set = LongHashSet.of(new long[]{5L, 5L, -1L, Long.MIN_VALUE, Long.MAX_VALUE});
+
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.contains(5L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(6L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("with / without 은 원래 집합을 바꾸지 않고 새 집합을 만든다")
+    void withAndWithout() {
+        LongHashSet original = LongHashSet.of(new long[]{1L, 2L});
+
+        LongHashSet added = original.with(3L);
+        assertThat(added.toArray()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(original.contains(3L)).isFalse();
+        assertThat(added.with(3L)).isSameAs(added); // 이미 있으면 그대로
+
+        LongHashSet removed = added.without(1L);
+        assertThat(removed.toArray()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(added.contains(1L)).isTrue();
+        assertThat(removed.without(99L)).isSameAs(removed); // 없으면 그대로
+
+        assertThat(LongHashSet.of(new long[]{1L}).without(1L)).isSameAs(LongHashSet.empty());
+    }
+
+    @Test
+    @DisplayName("연속된 id 를 많이 넣어도 적재율 50% 이하를 유지하고 모두 찾는다")
+    void loadFactor() throws Exception {
+        for (int n : new int[]{1, 2, 3, 1000, 1024, 1025, 100_000}) {
+            long[] values = LongStream.rangeClosed(1, n).toArray();
+            LongHashSet set = LongHashSet.of(values);
+
+            assertThat(set.size()).isEqualTo(n);
+            assertThat(tableLength(set)).isGreaterThanOrEqualTo(2 * n);
+            assertThat(LongStream.of(values).allMatch(set::contains)).isTrue();
+            assertThat(set.contains(n + 1L)).isFalse();
+            assertThat(set.contains(-(long) n)).isFalse();
+        }
+    }
+
+    private static int tableLength(LongHashSet set) throws Exception {
+        Field table = LongHashSet.class.getDeclaredField("table");
+        table.setAccessible(true);
+        return ((long[]) table.get(set)).length;
+    }
+}
@@ -7,7 +7,19 @@ export type Member = {
   nickname: string;
 };
 
-export const fetchAllMembers = async (): Promise<Member[]> => {
-  const res = await api.get("/member/all"); 
+export type MemberPage = {
+  members: Member[];
+  nextCursor: number | null;
+  hasNext: boolean;
+};
+
+// 관리자 회원 목록 한 페이지 (cursor 가 없으면 첫 페이지, 다음 페이지는 nextCursor 로 요청)
+export const fetchMemberPage = async (
+  cursor: number | null = null,
+  size = 50
+): Promise<MemberPage> => {
+  const res = await api.get<MemberPage>("/member/all", {
+    params: { cursor: cursor ?? undefined, size },
+  });
   return res.data;
 };
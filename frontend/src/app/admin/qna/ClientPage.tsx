@@ -5,22 +5,41 @@ import Link from "next/link";
 import api from "@/lib/api";
 import Header from "@/components/Header";
 import Footer from "@/components/Footer";
-import { Question } from "@/types/qna";
+
+type Question = {
+  id: number;
+  title: string;
+  createdAt: string;
+  memberUsername: string;
+  answerCount: number;
+};
+
+type QuestionPage = {
+  content: Question[];
+  totalPages: number;
+};
+
+const ITEMS_PER_PAGE = 20;
 
 export default function ClientPage() {
   const [questions, setQuestions] = useState<Question[]>([]);
+  const [page, setPage] = useState(0); // 서버 페이지 (0 부터)
+  const [totalPages, setTotalPages] = useState(0);
 
   useEffect(() => {
     const fetchQuestions = async () => {
       try {
-        const res = await api.get("/admin/qna/questions");
-        setQuestions(res.data);
+        const res = await api.get<QuestionPage>("/admin/qna/questions", {
+          params: { page, size: ITEMS_PER_PAGE },
+        });
+        setQuestions(res.data.content);
+        setTotalPages(res.data.totalPages);
       } catch (error) {
         console.error("Q&A 목록 조회 실패", error);
       }
     };
     fetchQuestions();
-  }, []);
+  }, [page]);
 
   const handleDelete = async (id: number) => {
     if (!confirm("정말 삭제하시겠습니까?")) return;
@@ -48,10 +67,10 @@ export default function ClientPage() {
                     {q.title}
                   </h2>
                 </Link>
-                <p className="text-gray-700 mt-2">{q.content}</p>
                 <p className="text-sm text-gray-500 mt-1">
                   작성자: {q.memberUsername} |{" "}
-                  {new Date(q.createdAt).toLocaleString()}
+                  {new Date(q.createdAt).toLocaleString()} | 답변{" "}
+                  {q.answerCount}
                 </p>
                 <button
                   onClick={() => handleDelete(q.id)}
@@ -63,6 +82,28 @@ export default function ClientPage() {
             ))}
           </ul>
         )}
+
+        {totalPages > 1 && (
+          <div className="flex justify-center items-center mt-8 space-x-4">
+            <button
+              onClick={() => setPage(page - 1)}
+              disabled={page === 0}
+              className="px-3 py-1 rounded text-sm bg-gray-200 text-gray-700 disabled:opacity-50"
+            >
+              이전
+            </button>
+            <span className="text-sm text-gray-600">
+              {page + 1} / {totalPages}
+            </span>
+            <button
+              onClick={() => setPage(page + 1)}
+              disabled={page + 1 >= totalPages}
+              className="px-3 py-1 rounded text-sm bg-gray-200 text-gray-700 disabled:opacity-50"
+            >
+              다음
+            </button>
+          </div>
+        )}
       </main>
       <Footer />
     </div>
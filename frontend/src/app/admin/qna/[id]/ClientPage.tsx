@@ -6,18 +6,29 @@ import api from "@/lib/api";
 import Header from "@/components/Header";
 import Footer from "@/components/Footer";
 
+type Answer = {
+  answerId: number;
+  content: string;
+  memberUsername: string;
+  createdAt: string;
+};
+
+// 답변은 첫 페이지만 오고, 나머지는 answerNextCursor 로 이어서 조회
 type QuestionDetail = {
   id: number;
   title: string;
   content: string;
   memberUsername: string;
   createdAt: string;
-  answers: {
-    answerId: number;
-    content: string;
-    memberUsername: string;
-    createdAt: string;
-  }[];
+  answers: Answer[];
+  answerNextCursor: number | null;
+  hasMoreAnswers: boolean;
+};
+
+type AnswerPage = {
+  answers: Answer[];
+  nextCursor: number | null;
+  hasNext: boolean;
 };
 
 export default function AdminQnaDetailPage() {
@@ -38,6 +49,27 @@ export default function AdminQnaDetailPage() {
     fetchQuestionDetail();
   }, [id]);
 
+  const handleLoadMoreAnswers = async () => {
+    if (!question?.answerNextCursor) return;
+    try {
+      const res = await api.get<AnswerPage>(`/qna/${id}/answers`, {
+        params: { cursor: question.answerNextCursor },
+      });
+      setQuestion((prev) =>
+        prev
+          ? {
+              ...prev,
+              answers: [...prev.answers, ...res.data.answers],
+              answerNextCursor: res.data.nextCursor,
+              hasMoreAnswers: res.data.hasNext,
+            }
+          : prev
+      );
+    } catch (err) {
+      console.error("답변 조회 실패", err);
+    }
+  };
+
   const handleDeleteAnswer = async (answerId: number) => {
     if (!confirm("이 답변을 삭제하시겠습니까?")) return;
     try {
@@ -114,6 +146,15 @@ export default function AdminQnaDetailPage() {
             ))}
           </ul>
         )}
+
+        {question.hasMoreAnswers && (
+          <button
+            onClick={handleLoadMoreAnswers}
+            className="mt-4 w-full text-sm text-blue-600 hover:underline"
+          >
+            답변 더 보기
+          </button>
+        )}
       </main>
       <Footer />
     </div>
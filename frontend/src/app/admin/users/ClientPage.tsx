@@ -1,23 +1,32 @@
 "use client";
 
 import { useEffect, useState } from "react";
-import { fetchAllMembers, Member } from "@/api/member";
+import { fetchMemberPage, Member } from "@/api/member";
 import Header from "@/components/Header";
 import Footer from "@/components/Footer";
 
 export default function ClientPage() {
   const [members, setMembers] = useState<Member[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [loading, setLoading] = useState(false);
 
-  useEffect(() => {
-    const loadMembers = async () => {
-      try {
-        const data = await fetchAllMembers();
-        setMembers(data);
-      } catch (err) {
-        console.error("회원 목록 불러오기 실패", err);
-      }
-    };
+  // cursor 가 없으면 처음부터, 있으면 이어서 불러온다
+  const loadMembers = async (cursor: number | null = null) => {
+    setLoading(true);
+    try {
+      const data = await fetchMemberPage(cursor);
+      setMembers((prev) =>
+        cursor === null ? data.members : [...prev, ...data.members]
+      );
+      setNextCursor(data.hasNext ? data.nextCursor : null);
+    } catch (err) {
+      console.error("회원 목록 불러오기 실패", err);
+    } finally {
+      setLoading(false);
+    }
+  };
 
+  useEffect(() => {
     loadMembers();
   }, []);
 
@@ -52,6 +61,16 @@ export default function ClientPage() {
                 ))}
               </tbody>
             </table>
+
+            {nextCursor !== null && (
+              <button
+                onClick={() => loadMembers(nextCursor)}
+                disabled={loading}
+                className="mt-6 w-full py-3 text-blue-600 hover:underline disabled:opacity-50"
+              >
+                {loading ? "불러오는 중..." : "더 보기"}
+              </button>
+            )}
           </div>
         )}
       </main>
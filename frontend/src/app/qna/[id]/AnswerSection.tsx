@@ -10,25 +10,40 @@ interface Answer {
   memberUsername: string;
 }
 
+interface AnswerPage {
+  answers: Answer[];
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
+const ANSWERS_PER_PAGE = 20;
+
 export default function AnswerSection({ questionId }: { questionId: number }) {
   const [answers, setAnswers] = useState<Answer[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
   const [newAnswer, setNewAnswer] = useState("");
   const [currentUser, setCurrentUser] = useState<{
     username: string;
     role: string;
   } | null>(null);
 
+  // ✅ 답변 불러오기 (cursor 가 없으면 처음부터, 있으면 이어서)
+  const fetchAnswers = async (cursor: number | null = null) => {
+    try {
+      const res = await api.get<AnswerPage>(`/qna/${questionId}/answers`, {
+        params: { cursor: cursor ?? undefined, size: ANSWERS_PER_PAGE },
+      });
+      setAnswers((prev) =>
+        cursor === null ? res.data.answers : [...prev, ...res.data.answers]
+      );
+      setNextCursor(res.data.hasNext ? res.data.nextCursor : null);
+    } catch (err) {
+      console.error("답변 조회 실패", err);
+    }
+  };
+
   // ✅ 답변, 사용자 정보 불러오기
   useEffect(() => {
-    const fetchAnswers = async () => {
-      try {
-        const res = await api.get(`/qna/${questionId}/answers`);
-        setAnswers(res.data);
-      } catch (err) {
-        console.error("답변 조회 실패", err);
-      }
-    };
-
     const fetchCurrentUser = async () => {
       try {
         const token = localStorage.getItem("accessToken");
@@ -74,8 +89,8 @@ export default function AnswerSection({ questionId }: { questionId: number }) {
       );
       setNewAnswer("");
 
-      const res = await api.get(`/qna/${questionId}/answers`);
-      setAnswers(res.data);
+      // 새 답변은 마지막에 붙으므로 남은 페이지가 없을 때만 바로 보인다
+      fetchAnswers();
     } catch (err) {
       console.error("답변 등록 실패", err);
     }
@@ -98,8 +113,7 @@ export default function AnswerSection({ questionId }: { questionId: number }) {
         },
       });
 
-      const res = await api.get(`/qna/${questionId}/answers`);
-      setAnswers(res.data);
+      setAnswers((prev) => prev.filter((a) => a.answerId !== answerId));
     } catch (err) {
       console.error("답변 삭제 실패", err);
     }
@@ -133,6 +147,15 @@ export default function AnswerSection({ questionId }: { questionId: number }) {
         ))}
       </div>
 
+      {nextCursor !== null && (
+        <button
+          className="mt-4 w-full text-sm text-blue-600 hover:underline"
+          onClick={() => fetchAnswers(nextCursor)}
+        >
+          답변 더 보기
+        </button>
+      )}
+
       <div className="mt-6">
         <textarea
           className="w-full border p-3 rounded-lg"
@@ -9,9 +9,15 @@ import Footer from "@/components/Footer";
 type Question = {
   id: number;
   title: string;
-  content: string;
   createdAt: string;
   memberUsername: string;
+  answerCount: number;
+};
+
+type QuestionPage = {
+  content: Question[];
+  page: number;
+  totalPages: number;
 };
 
 const ITEMS_PER_PAGE = 5;
@@ -21,20 +27,29 @@ export default function QnaPage() {
   const [loading, setLoading] = useState(true);
   const [currentUsername, setCurrentUsername] = useState("");
   const [currentPage, setCurrentPage] = useState(1);
+  const [totalPages, setTotalPages] = useState(0);
   const [errorMessage, setErrorMessage] = useState("");
 
+  // 서버 페이지는 0 부터 시작
+  const fetchQuestions = async (page: number) => {
+    try {
+      const res = await api.get<QuestionPage>("/qna", {
+        params: { page: page - 1, size: ITEMS_PER_PAGE },
+      });
+      setQuestions(res.data.content);
+      setTotalPages(res.data.totalPages);
+    } catch (err) {
+      console.error("질문 목록을 불러오지 못했습니다.", err);
+    } finally {
+      setLoading(false);
+    }
+  };
+
   useEffect(() => {
-    const fetchQuestions = async () => {
-      try {
-        const res = await api.get("/qna");
-        setQuestions(res.data);
-      } catch (err) {
-        console.error("질문 목록을 불러오지 못했습니다.", err);
-      } finally {
-        setLoading(false);
-      }
-    };
+    fetchQuestions(currentPage);
+  }, [currentPage]);
 
+  useEffect(() => {
     const fetchCurrentUser = async () => {
       try {
         const token = localStorage.getItem("accessToken");
@@ -52,7 +67,6 @@ export default function QnaPage() {
       }
     };
 
-    fetchQuestions();
     fetchCurrentUser();
   }, []);
 
@@ -68,12 +82,6 @@ export default function QnaPage() {
     window.location.href = "/qna/question";
   };
 
-  const totalPages = Math.ceil(questions.length / ITEMS_PER_PAGE);
-  const paginatedQuestions = questions.slice(
-    (currentPage - 1) * ITEMS_PER_PAGE,
-    currentPage * ITEMS_PER_PAGE
-  );
-
   const handleDelete = async (questionId: number) => {
     const confirm = window.confirm("정말 이 질문을 삭제하시겠습니까?");
     if (!confirm) return;
@@ -86,8 +94,12 @@ export default function QnaPage() {
         },
       });
 
-      const res = await api.get("/qna");
-      setQuestions(res.data);
+      // 페이지의 마지막 한 건을 지웠으면 앞 페이지로
+      if (questions.length === 1 && currentPage > 1) {
+        setCurrentPage(currentPage - 1);
+      } else {
+        fetchQuestions(currentPage);
+      }
     } catch (err) {
       console.error("질문 삭제 실패", err);
       alert("질문 삭제에 실패했습니다.");
@@ -117,11 +129,11 @@ export default function QnaPage() {
 
         {loading ? (
           <p>불러오는 중...</p>
-        ) : paginatedQuestions.length === 0 ? (
+        ) : questions.length === 0 ? (
           <p>등록된 질문이 없습니다.</p>
         ) : (
           <ul className="space-y-6">
-            {paginatedQuestions.map((q) => (
+            {questions.map((q) => (
               <li
                 key={q.id}
                 className="bg-blue-50 border-l-4 border-blue-500 rounded shadow-sm p-5 max-w-2xl mx-auto"
@@ -131,9 +143,9 @@ export default function QnaPage() {
                     {q.title}
                   </h2>
                 </Link>
-                <p className="text-gray-700 mt-2">{q.content}</p>
                 <div className="text-sm text-gray-500 mt-2">
-                  {q.memberUsername} · {new Date(q.createdAt).toLocaleString()}
+                  {q.memberUsername} · {new Date(q.createdAt).toLocaleString()}{" "}
+                  · 답변 {q.answerCount}
                 </div>
                 {q.memberUsername === currentUsername && (
                   <button